@@ -3,11 +3,28 @@
  * All Rights Reserved.
  */
 
+import visual.AdaptiveSurfaceSampler;
+import visual.OmegaExplorer;
 import visual.OmegaSurface;
-import logic.OmegaZeroLocator;
+import visual.PlaneWindow;
+import visual.SurfaceExporter;
+import visual.SurfaceTilePyramid;
+import visual.TiledSurfaceRenderer;
+import logic.CriticalLineScan;
+import logic.OmegaRootFinder;
 import core.PHCInterpreter;
+import core.PrimeTable;
+import util.ComplexUtils;
 import util.Logger;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * PHCLauncher is the unified entry point to Prime Harmonics Calculus.
  * It initiates PHC visualizations, logic zero-finding analysis, and interpreter interactions.
@@ -15,6 +32,8 @@ import util.Logger;
 public class PHCLauncher {
 
     private static final Logger logger = new Logger();
+    private static final BigDecimal DEFAULT_SCAN_START = BigDecimal.TEN;
+    private static final BigDecimal DEFAULT_SCAN_END = new BigDecimal("100");
 
     public static void main(String[] args) {
         logger.info("=== Prime Harmonics Calculus (PHC) Framework Booting ===");
@@ -25,11 +44,24 @@ public class PHCLauncher {
                 OmegaSurface.renderFrame();
             } else if ("locate-zeros".equalsIgnoreCase(args[0])) {
                 logger.info("Running OmegaZeroLocator...");
-                OmegaZeroLocator.locateZeros();
+                locateZeros(args);
+            } else if ("render".equalsIgnoreCase(args[0])) {
+                logger.info("Rendering OmegaSurface headless...");
+                render(args);
+            } else if ("explore".equalsIgnoreCase(args[0])) {
+                logger.info("Launching OmegaSurface explorer...");
+                explore(args);
             } else if ("interpreter".equalsIgnoreCase(args[0])) {
                 logger.info("Initializing PHCInterpreter...");
                 PHCInterpreter interpreter = new PHCInterpreter();
                 interpreter.run();
+            } else if ("prime-table".equalsIgnoreCase(args[0])) {
+                if (args.length < 3) {
+                    logger.error("Usage: prime-table <path> <limit>");
+                } else {
+                    logger.info("Generating prime table...");
+                    PrimeTable.generate(Paths.get(args[1]), Long.parseLong(args[2]));
+                }
             } else {
                 logger.error("Unknown command: " + args[0]);
             }
@@ -40,4 +72,116 @@ public class PHCLauncher {
 
         logger.info("=== PHC Framework Execution Complete ===");
     }
+
+    /**
+     * locate-zeros [start end] [--method general|riemann-siegel] [--checkpoint file] [--resume]
+     */
+    private static void locateZeros(String[] args) throws Exception {
+        List<String> positional = new ArrayList<>();
+        CriticalLineScan.Method method = CriticalLineScan.Method.GENERAL;
+        Path checkpoint = null;
+        boolean resume = false;
+        for (int i = 1; i < args.length; i++) {
+            if ("--checkpoint".equals(args[i]) && i + 1 < args.length) {
+                checkpoint = Paths.get(args[++i]);
+            } else if ("--resume".equals(args[i])) {
+                resume = true;
+            } else if ("--method".equals(args[i]) && i + 1 < args.length) {
+                String name = args[++i];
+                method = name.toLowerCase().startsWith("r")
+                        ? CriticalLineScan.Method.RIEMANN_SIEGEL : CriticalLineScan.Method.GENERAL;
+            } else {
+                positional.add(args[i]);
+            }
+        }
+
+        Consumer<ComplexUtils.SurfaceResponse> sink = zero -> logger.info("Zero: " + zero);
+        if (resume) {
+            if (checkpoint == null) {
+                logger.error("Usage: locate-zeros --resume --checkpoint <file>");
+                return;
+            }
+            CriticalLineScan.resume(checkpoint, sink);
+            return;
+        }
+
+        BigDecimal start = positional.size() >= 2 ? new BigDecimal(positional.get(0)) : DEFAULT_SCAN_START;
+        BigDecimal end = positional.size() >= 2 ? new BigDecimal(positional.get(1)) : DEFAULT_SCAN_END;
+        CriticalLineScan scan = new CriticalLineScan(new OmegaRootFinder(MathContext.DECIMAL128), method);
+        if (checkpoint != null) {
+            scan.run(start, end, sink, checkpoint);
+        } else {
+            scan.run(start, end, sink);
+        }
+    }
+
+    /**
+     * render [--png file] [--grid file] [--size WxH] [--window reStart reEnd imStart imEnd] [--adaptive]
+     */
+    private static void render(String[] args) throws Exception {
+        PlaneWindow window = PlaneWindow.DEFAULT;
+        Path png = null;
+        Path grid = null;
+        boolean adaptive = false;
+        for (int i = 1; i < args.length; i++) {
+            if ("--png".equals(args[i]) && i + 1 < args.length) {
+                png = Paths.get(args[++i]);
+            } else if ("--grid".equals(args[i]) && i + 1 < args.length) {
+                grid = Paths.get(args[++i]);
+            } else if ("--size".equals(args[i]) && i + 1 < args.length) {
+                String[] size = args[++i].toLowerCase().split("x");
+                window = window.withSize(Integer.parseInt(size[0]), Integer.parseInt(size[size.length - 1]));
+            } else if ("--adaptive".equals(args[i])) {
+                adaptive = true;
+            } else if ("--window".equals(args[i]) && i + 4 < args.length) {
+                window = new PlaneWindow(new BigDecimal(args[i + 1]), new BigDecimal(args[i + 2]),
+                        new BigDecimal(args[i + 3]), new BigDecimal(args[i + 4]), window.getWidth(), window.getHeight());
+                i += 4;
+            } else {
+                logger.warn("Ignoring render argument: " + args[i]);
+            }
+        }
+        if (png == null && grid == null) {
+            logger.error("Usage: render [--png file] [--grid file] [--size WxH]"
+                    + " [--window reStart reEnd imStart imEnd] [--adaptive]");
+            return;
+        }
+
+        SurfaceExporter.Modulus modulus = SurfaceExporter.defaultModulus();
+        AdaptiveSurfaceSampler sampler = adaptive ? new AdaptiveSurfaceSampler(modulus) : null;
+        SurfaceExporter exporter = new SurfaceExporter(modulus, new TiledSurfaceRenderer(), sampler);
+        SurfaceExporter.Surface surface = exporter.render(window);
+        logger.info(String.format("Rendered %s in %.2f s (%.0f pixels/s, %d evaluations).", window,
+                surface.getRenderNanos() / 1e9, surface.getPixelsPerSecond(),
+                sampler != null ? sampler.getEvaluations() : window.getPixelCount()));
+        if (png != null) {
+            surface.writePng(png);
+            logger.info("Wrote PNG " + png);
+        }
+        if (grid != null) {
+            surface.writeGrid(grid);
+            logger.info("Wrote modulus grid " + grid);
+        }
+    }
+
+    /**
+     * explore [--cache dir] [--memory-tiles n]
+     */
+    private static void explore(String[] args) {
+        Path cache = null;
+        int memoryTiles = SurfaceTilePyramid.DEFAULT_MEMORY_TILES;
+        for (int i = 1; i < args.length; i++) {
+            if ("--cache".equals(args[i]) && i + 1 < args.length) {
+                cache = Paths.get(args[++i]);
+            } else if ("--memory-tiles".equals(args[i]) && i + 1 < args.length) {
+                memoryTiles = Integer.parseInt(args[++i]);
+            } else {
+                logger.warn("Ignoring explore argument: " + args[i]);
+            }
+        }
+        SurfaceExporter.Modulus modulus = SurfaceExporter.defaultModulus();
+        SurfaceExporter exporter = new SurfaceExporter(modulus, new TiledSurfaceRenderer(),
+                new AdaptiveSurfaceSampler(modulus));
+        OmegaExplorer.exploreFrame(new SurfaceTilePyramid(PlaneWindow.DEFAULT, exporter, memoryTiles, cache));
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package core;
+
+import util.ComplexUtils;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Evaluates ζ-like functions at the lowest precision that still delivers a requested number
+ * of correct digits, escalating to the full target MathContext only where needed.
+ *
+ * <p>The cheap pass needs a double-precision version of each component. A point is first
+ * evaluated in double arithmetic and then at {@link #PROBE} (16 digits, whose BigDecimals
+ * stay on the compact long representation). The two round differently, binary against
+ * decimal, so their difference, times a safety factor of ten, estimates the error of the
+ * 16-digit result: cancellation or ill-conditioning shows up as disagreement. The 16-digit
+ * value is accepted when the estimate is within the required relative accuracy and both
+ * agree on the sign; otherwise the point is re-evaluated at the target precision. Points at
+ * or near a zero always escalate, since no relative accuracy can be certified there.
+ *
+ * <p>Components without a double-precision version are evaluated at the target precision
+ * directly: a second BigDecimal probe costs about as much as the target evaluation itself
+ * (on a 300-term BigDecimal series, 16 plus 20 digits took 384 µs against 278 µs at
+ * 40 digits, while double plus 16 digits took 153 µs). The fraction of evaluations run
+ * at the target precision is tracked.
+ */
+public final class AdaptiveEvaluator {
+
+    /** One component of the function being evaluated. */
+    @FunctionalInterface
+    public interface Function {
+        BigDecimal evaluate(BigDecimal x, BigDecimal y, MathContext mc);
+    }
+
+    /** Double-precision version of one component. */
+    @FunctionalInterface
+    public interface Probe {
+        double evaluate(double x, double y);
+    }
+
+    /** Precision of the BigDecimal probe, whose value is returned when accepted. */
+    public static final MathContext PROBE = MathContext.DECIMAL64;
+
+    /** Largest number of correct digits the probes can certify. */
+    public static final int MAX_REQUIRED_DIGITS = 14;
+
+    private static final BigDecimal SAFETY = BigDecimal.TEN;
+
+    private final MathContext target;
+    private final BigDecimal tolerance;
+    private final Function real;
+    private final Function imaginary;
+    private final Function modulus;
+    private final Probe realProbe;
+    private final Probe imaginaryProbe;
+    private final Probe modulusProbe;
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder escalations = new LongAdder();
+
+    /**
+     * Creates an adaptive evaluator for the ζ-like function of {@link ComplexUtils}.
+     *
+     * @param target         precision used when a point escalates
+     * @param requiredDigits correct significant digits required of every result
+     */
+    public AdaptiveEvaluator(MathContext target, int requiredDigits) {
+        this(target, requiredDigits, ComplexUtils::evaluateReZetaLike, ComplexUtils::evaluateImZetaLike,
+                ComplexUtils::evaluateZetaModulus);
+    }
+
+    /**
+     * Creates an adaptive evaluator over arbitrary component functions, for instance the
+     * methods of an {@link EvaluationCache}.
+     *
+     * @param target         precision used when a point escalates
+     * @param requiredDigits correct significant digits required of every result, 1 to {@value #MAX_REQUIRED_DIGITS}
+     * @param real           real part
+     * @param imaginary      imaginary part
+     * @param modulus        modulus
+     */
+    public AdaptiveEvaluator(MathContext target, int requiredDigits, Function real, Function imaginary,
+                             Function modulus) {
+        this(target, requiredDigits, real, imaginary, modulus, null, null, null);
+    }
+
+    /**
+     * Creates an adaptive evaluator whose components have double-precision versions for the
+     * cheap pass. A {@code null} probe sends that component straight to the target precision.
+     *
+     * @param target         precision used when a point escalates
+     * @param requiredDigits correct significant digits required of every result, 1 to {@value #MAX_REQUIRED_DIGITS}
+     * @param real           real part
+     * @param imaginary      imaginary part
+     * @param modulus        modulus
+     * @param realProbe      real part in double precision, or {@code null}
+     * @param imaginaryProbe imaginary part in double precision, or {@code null}
+     * @param modulusProbe   modulus in double precision, or {@code null}
+     */
+    public AdaptiveEvaluator(MathContext target, int requiredDigits, Function real, Function imaginary,
+                             Function modulus, Probe realProbe, Probe imaginaryProbe, Probe modulusProbe) {
+        if (requiredDigits < 1 || requiredDigits > MAX_REQUIRED_DIGITS) {
+            throw new IllegalArgumentException("Required digits must be within [1, " + MAX_REQUIRED_DIGITS + "].");
+        }
+        this.target = target;
+        this.tolerance = BigDecimal.ONE.movePointLeft(requiredDigits);
+        this.real = real;
+        this.imaginary = imaginary;
+        this.modulus = modulus;
+        this.realProbe = realProbe;
+        this.imaginaryProbe = imaginaryProbe;
+        this.modulusProbe = modulusProbe;
+    }
+
+    public BigDecimal realPart(BigDecimal x, BigDecimal y) {
+        return evaluate(real, realProbe, x, y);
+    }
+
+    public BigDecimal imaginaryPart(BigDecimal x, BigDecimal y) {
+        return evaluate(imaginary, imaginaryProbe, x, y);
+    }
+
+    public BigDecimal modulus(BigDecimal x, BigDecimal y) {
+        return evaluate(modulus, modulusProbe, x, y);
+    }
+
+    private BigDecimal evaluate(Function function, Probe probe, BigDecimal x, BigDecimal y) {
+        evaluations.increment();
+        int precision = target.getPrecision();
+        if (precision != 0 && precision <= PROBE.getPrecision()) {
+            return function.evaluate(x, y, target); // the target is already as cheap as the probe
+        }
+        if (probe != null) {
+            double fast = probe.evaluate(x.doubleValue(), y.doubleValue());
+            BigDecimal check = function.evaluate(x, y, PROBE);
+            if (Double.isFinite(fast) && check.signum() != 0 && Math.signum(fast) == check.signum()) {
+                BigDecimal error = new BigDecimal(fast).subtract(check, PROBE).abs().multiply(SAFETY);
+                if (error.compareTo(check.abs().multiply(tolerance)) <= 0) {
+                    return check;
+                }
+            }
+        }
+        escalations.increment();
+        return function.evaluate(x, y, target);
+    }
+
+    public MathContext getTarget() {
+        return target;
+    }
+
+    public long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    public long getEscalations() {
+        return escalations.sum();
+    }
+
+    /**
+     * Returns the fraction of evaluations that had to run at the target precision.
+     *
+     * @return escalations / evaluations, or 0 before the first evaluation
+     */
+    public double getEscalationRate() {
+        long total = evaluations.sum();
+        return total == 0 ? 0.0 : (double) escalations.sum() / total;
+    }
+}
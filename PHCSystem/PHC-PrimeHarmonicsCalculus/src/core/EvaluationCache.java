@@ -0,0 +1,390 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package core;
+
+import util.ComplexUtils;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleFunction;
+
+/**
+ * Bounded, thread-safe cache of ζ-like evaluations shared by the zero locator, the surface
+ * renderer and the symbolic engine, so that overlapping scans, zooms and finite differences
+ * reuse earlier work.
+ *
+ * <p>Points are keyed by their coordinates rounded to the requested precision, together
+ * with that precision. Inputs that agree to the working precision, such as a scan point
+ * given as {@code new BigDecimal(double)} and the same height written as a shorter decimal,
+ * share an entry, while points of a high-precision secant polish stay apart because they
+ * differ within their own precision. The real part, imaginary part and modulus of a point
+ * share one entry and are filled in as they are requested. Entries live in independently locked stripes, each evicting by
+ * segmented LRU: new entries enter a probation segment and are promoted to a protected
+ * segment on their second hit, so one-off points from a long scan cannot flush frequently
+ * reused ones. Values are computed outside the stripe lock; two
+ * threads missing on the same point may both compute it.
+ */
+public final class EvaluationCache {
+
+    /** Default number of entries in the shared cache. */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /** System property overriding the capacity of the shared cache. */
+    public static final String CAPACITY_PROPERTY = "phc.evaluationCache.capacity";
+
+    private static final int STRIPES = 16;
+    private static final double PROTECTED_SHARE = 0.8;
+
+    private static volatile EvaluationCache shared;
+
+    private final int capacity;
+    private final Stripe[] stripes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache holding at most {@code capacity} entries.
+     *
+     * @param capacity maximum number of entries, at least 1
+     */
+    public EvaluationCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be at least 1.");
+        }
+        this.capacity = capacity;
+        int stripeCount = Math.min(STRIPES, capacity);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            int share = capacity / stripeCount + (i < capacity % stripeCount ? 1 : 0);
+            stripes[i] = new Stripe(share);
+        }
+    }
+
+    /**
+     * Returns the process-wide cache, sized by {@value #CAPACITY_PROPERTY}.
+     *
+     * @return shared cache
+     */
+    public static EvaluationCache shared() {
+        EvaluationCache cache = shared;
+        if (cache == null) {
+            synchronized (EvaluationCache.class) {
+                cache = shared;
+                if (cache == null) {
+                    cache = new EvaluationCache(Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+                    shared = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Cached {@link ComplexUtils#evaluateReZetaLike}.
+     */
+    public BigDecimal realPart(BigDecimal x, BigDecimal y, MathContext mc) {
+        PointKey key = new PointKey(x, y, mc);
+        Point point = (Point) lookup(key);
+        if (point != null && point.real != null) {
+            hits.increment();
+            return point.real;
+        }
+        misses.increment();
+        BigDecimal value = ComplexUtils.evaluateReZetaLike(x, y, mc);
+        merge(key, value, null, null);
+        return value;
+    }
+
+    /**
+     * Cached {@link ComplexUtils#evaluateImZetaLike}.
+     */
+    public BigDecimal imaginaryPart(BigDecimal x, BigDecimal y, MathContext mc) {
+        PointKey key = new PointKey(x, y, mc);
+        Point point = (Point) lookup(key);
+        if (point != null && point.imaginary != null) {
+            hits.increment();
+            return point.imaginary;
+        }
+        misses.increment();
+        BigDecimal value = ComplexUtils.evaluateImZetaLike(x, y, mc);
+        merge(key, null, value, null);
+        return value;
+    }
+
+    /**
+     * Cached {@link ComplexUtils#evaluateZetaModulus}. A point whose real and imaginary parts
+     * are already cached is answered from them without a new evaluation.
+     */
+    public BigDecimal modulus(BigDecimal x, BigDecimal y, MathContext mc) {
+        PointKey key = new PointKey(x, y, mc);
+        Point point = (Point) lookup(key);
+        if (point != null) {
+            if (point.modulus != null) {
+                hits.increment();
+                return point.modulus;
+            }
+            if (point.real != null && point.imaginary != null) {
+                hits.increment();
+                BigDecimal value = point.real.multiply(point.real, mc)
+                        .add(point.imaginary.multiply(point.imaginary, mc), mc).sqrt(mc);
+                merge(key, null, null, value);
+                return value;
+            }
+        }
+        misses.increment();
+        BigDecimal value = ComplexUtils.evaluateZetaModulus(x, y, mc);
+        merge(key, null, null, value);
+        return value;
+    }
+
+    /**
+     * Returns a cached copy of {@code compute.apply(t)}, for double-valued evaluations such as
+     * {@code PrimeField.computeFieldAt}. Use a separate cache per function.
+     *
+     * @param t       evaluation point, keyed exactly
+     * @param compute evaluation on a miss
+     * @return a fresh copy of the cached result
+     */
+    public double[] valueAt(double t, DoubleFunction<double[]> compute) {
+        Double key = t == 0.0 ? 0.0 : t; // -0.0 and 0.0 share an entry
+        double[] value = (double[]) lookup(key);
+        if (value != null) {
+            hits.increment();
+            return value.clone();
+        }
+        misses.increment();
+        value = compute.apply(t);
+        store(key, value.clone());
+        return value;
+    }
+
+    private Object lookup(Object key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.get(key);
+        }
+    }
+
+    private void store(Object key, Object value) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            evictions.add(stripe.put(key, value));
+        }
+    }
+
+    private void merge(PointKey key, BigDecimal real, BigDecimal imaginary, BigDecimal modulus) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Point old = (Point) stripe.peek(key);
+            Point point = old == null
+                    ? new Point(real, imaginary, modulus)
+                    : new Point(real != null ? real : old.real, imaginary != null ? imaginary : old.imaginary,
+                            modulus != null ? modulus : old.modulus);
+            evictions.add(stripe.put(key, point));
+        }
+    }
+
+    private Stripe stripeFor(Object key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return stripes[(h & 0x7fffffff) % stripes.length];
+    }
+
+    /**
+     * Drops every entry; statistics are kept.
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.probation.clear();
+                stripe.protectedSegment.clear();
+            }
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return hits, misses, evictions and current size
+     */
+    public Stats stats() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    /** Immutable snapshot of cache statistics. */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        Stats(long hits, long misses, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, hitRate=%.3f, evictions=%d, size=%d",
+                    hits, misses, getHitRate(), evictions, size);
+        }
+    }
+
+    /**
+     * Coordinates rounded to the request's precision with trailing zeros stripped, and that
+     * precision. An unlimited MathContext keys on the exact coordinates.
+     */
+    private static final class PointKey {
+        private final BigDecimal x;
+        private final BigDecimal y;
+        private final int precision;
+        private final int hash;
+
+        PointKey(BigDecimal x, BigDecimal y, MathContext mc) {
+            this.x = x.round(mc).stripTrailingZeros();
+            this.y = y.round(mc).stripTrailingZeros();
+            this.precision = mc.getPrecision();
+            this.hash = 31 * (31 * this.x.hashCode() + this.y.hashCode()) + precision;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof PointKey)) return false;
+            PointKey other = (PointKey) o;
+            return precision == other.precision && x.equals(other.x) && y.equals(other.y);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Evaluations known at one point and precision.
+     */
+    private static final class Point {
+        private final BigDecimal real;
+        private final BigDecimal imaginary;
+        private final BigDecimal modulus;
+
+        Point(BigDecimal real, BigDecimal imaginary, BigDecimal modulus) {
+            this.real = real;
+            this.imaginary = imaginary;
+            this.modulus = modulus;
+        }
+    }
+
+    /**
+     * One segmented-LRU partition. Callers hold the stripe's monitor.
+     */
+    private static final class Stripe {
+        private final int capacity;
+        private final int protectedCapacity;
+        private final LinkedHashMap<Object, Object> probation = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<Object, Object> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+            this.protectedCapacity = Math.max(1, (int) (capacity * PROTECTED_SHARE));
+        }
+
+        int size() {
+            return probation.size() + protectedSegment.size();
+        }
+
+        /**
+         * Returns the value and records the access, promoting a probation entry on its second hit.
+         */
+        Object get(Object key) {
+            Object value = protectedSegment.get(key);
+            if (value != null) {
+                return value;
+            }
+            value = probation.remove(key);
+            if (value != null) {
+                protectedSegment.put(key, value);
+                demoteOverflow();
+            }
+            return value;
+        }
+
+        /**
+         * Returns the value without recording an access.
+         */
+        Object peek(Object key) {
+            Object value = protectedSegment.get(key);
+            return value != null ? value : probation.get(key);
+        }
+
+        /**
+         * Inserts or replaces a value, returning the number of entries evicted.
+         */
+        int put(Object key, Object value) {
+            if (protectedSegment.containsKey(key)) {
+                protectedSegment.put(key, value);
+                return 0;
+            }
+            probation.put(key, value);
+            int evicted = 0;
+            while (size() > capacity) {
+                Map<Object, Object> victims = probation.isEmpty() ? protectedSegment : probation;
+                Iterator<Object> eldest = victims.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        private void demoteOverflow() {
+            while (protectedSegment.size() > protectedCapacity) {
+                Iterator<Map.Entry<Object, Object>> eldest = protectedSegment.entrySet().iterator();
+                Map.Entry<Object, Object> entry = eldest.next();
+                eldest.remove();
+                probation.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+}
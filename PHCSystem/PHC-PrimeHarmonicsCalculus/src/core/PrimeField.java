@@ -8,69 +8,228 @@ package core;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import util.Logger;
 
 /**
  * PrimeField represents a hyper-structured numerical field built on harmonic prime theory,
  * which extends classical fields by embedding spectral resonances and non-Euclidean transformations.
+ *
+ * <p>The basis is held in two representations: primitive {@code long[]} primes with
+ * precomputed {@code double} reciprocals and compensated prefix sums, used whenever the
+ * field's precision fits in a double, and a lazily built BigDecimal basis used only when
+ * a higher precision is requested.
  */
 public class PrimeField {
 
-    private final List<BigDecimal> primeBasis;
+    /** Largest MathContext precision served by the double-precision path. */
+    public static final int DOUBLE_PRECISION_DIGITS = 15;
+
+    /** Extra digits carried by BigDecimal reciprocal sums before the final rounding. */
+    private static final int GUARD_DIGITS = 10;
+
+    private final long[] primes;
+    private final double[] reciprocals;
+    private final double[] prefixHi;
+    private final double[] prefixLo;
     private final MathContext mc;
     private final Logger logger;
 
+    private volatile List<BigDecimal> primeBasis;
+    private volatile BigDecimal[] decimalPrefix;
+
     public PrimeField(int maxPrimeCount, MathContext mc) {
+        this(maxPrimeCount, mc,
+                ParallelPrimeSieve.defaultParallelism(PrimeSieve.upperBoundForCount(Math.max(maxPrimeCount, 0))));
+    }
+
+    /**
+     * Builds the prime basis with an explicit sieve parallelism.
+     *
+     * @param maxPrimeCount number of primes in the basis
+     * @param mc            precision of the basis values
+     * @param parallelism   number of sieve worker threads, at least 1
+     */
+    public PrimeField(int maxPrimeCount, MathContext mc, int parallelism) {
         this.mc = mc;
         this.logger = new Logger();
-        this.primeBasis = generatePrimeBasis(maxPrimeCount);
+        this.primes = generatePrimeBasis(maxPrimeCount, parallelism);
+        this.reciprocals = new double[primes.length];
+        this.prefixHi = new double[primes.length + 1];
+        this.prefixLo = new double[primes.length + 1];
+        buildReciprocalSums();
     }
 
-    private List<BigDecimal> generatePrimeBasis(int limit) {
-        List<BigDecimal> basis = new ArrayList<>();
-        int count = 0, num = 2;
-
-        while (count < limit) {
-            if (isPrime(num)) {
-                basis.add(new BigDecimal(num, mc));
-                count++;
+    private long[] generatePrimeBasis(int limit, int parallelism) {
+        int count = Math.max(limit, 0);
+        PrimeTable table = PrimeTable.openDefault(0);
+        long[] basis;
+        if (table != null && table.getPrimeCount() >= count) {
+            basis = table.firstPrimes(count);
+        } else {
+            if (table != null) {
+                logger.warn("Prime table " + table.getPath() + " holds fewer than " + count + " primes; sieving instead.");
             }
-            num++;
+            basis = new ParallelPrimeSieve(parallelism).firstPrimes(count);
         }
 
-        logger.info("Generated prime basis with " + count + " elements.");
+        logger.info("Generated prime basis with " + basis.length + " elements.");
         return basis;
     }
 
-    private boolean isPrime(int n) {
-        if (n <= 1) return false;
-        if (n <= 3) return true;
-        if (n % 2 == 0 || n % 3 == 0) return false;
-
-        for (int i = 5; i * i <= n; i += 6)
-            if (n % i == 0 || n % (i + 2) == 0)
-                return false;
-
-        return true;
+    /**
+     * Precomputes 1/p and Neumaier-compensated prefix sums stored as unevaluated
+     * double-double pairs (hi + lo), so that differences of prefixes stay accurate
+     * even for short sub-ranges.
+     */
+    private void buildReciprocalSums() {
+        double sum = 0.0;
+        double compensation = 0.0;
+        for (int i = 0; i < primes.length; i++) {
+            double r = 1.0 / primes[i];
+            reciprocals[i] = r;
+            double t = sum + r;
+            if (Math.abs(sum) >= Math.abs(r)) {
+                compensation += (sum - t) + r;
+            } else {
+                compensation += (r - t) + sum;
+            }
+            sum = t;
+            prefixHi[i + 1] = sum;
+            prefixLo[i + 1] = compensation;
+        }
     }
 
+    /**
+     * Computes the spectral norm sum over the basis of 1 / (p (value + 1)).
+     *
+     * @param value point at which the norm is evaluated
+     * @return spectral norm rounded to the field's MathContext, or zero on failure
+     */
     public BigDecimal spectralNorm(BigDecimal value) {
+        return spectralNormOfRange(value, 0, primes.length);
+    }
+
+    /**
+     * Computes the spectral norm restricted to basis indices [fromIndex, toIndex) in O(1).
+     *
+     * @param value     point at which the norm is evaluated
+     * @param fromIndex first basis index, inclusive
+     * @param toIndex   last basis index, exclusive
+     * @return partial spectral norm rounded to the field's MathContext, or zero on failure
+     */
+    public BigDecimal spectralNormOfRange(BigDecimal value, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > primes.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Basis range [" + fromIndex + ", " + toIndex + ") of " + primes.length);
+        }
         try {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (BigDecimal p : primeBasis) {
-                BigDecimal harmonic = BigDecimal.ONE.divide(p.multiply(value.add(BigDecimal.ONE)), mc);
-                sum = sum.add(harmonic, mc);
+            if (usesDoublePath()) {
+                double shifted = value.doubleValue() + 1.0;
+                if (shifted == 0.0) {
+                    throw new ArithmeticException("Division by zero");
+                }
+                double sum = (prefixHi[toIndex] - prefixHi[fromIndex]) + (prefixLo[toIndex] - prefixLo[fromIndex]);
+                return new BigDecimal(sum / shifted).round(mc);
+            }
+            BigDecimal sum;
+            if (mc.getPrecision() == 0) {
+                sum = exactReciprocalSum(fromIndex, toIndex);
+            } else {
+                BigDecimal[] prefix = decimalPrefix();
+                sum = prefix[toIndex].subtract(prefix[fromIndex]);
             }
-            return sum;
+            return sum.divide(value.add(BigDecimal.ONE), mc);
         } catch (Exception e) {
             logger.error("Spectral norm calculation failed.", e);
             return BigDecimal.ZERO;
         }
     }
 
+    /**
+     * Computes the spectral norm restricted to basis primes within [lowPrime, highPrime),
+     * locating the index range by binary search in O(log n).
+     *
+     * @param value     point at which the norm is evaluated
+     * @param lowPrime  smallest prime included
+     * @param highPrime exclusive upper prime bound
+     * @return partial spectral norm rounded to the field's MathContext, or zero on failure
+     */
+    public BigDecimal spectralNormBetween(BigDecimal value, long lowPrime, long highPrime) {
+        int from = lowerBound(lowPrime);
+        int to = Math.max(from, lowerBound(highPrime));
+        return spectralNormOfRange(value, from, to);
+    }
+
+    private int lowerBound(long key) {
+        int index = Arrays.binarySearch(primes, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private boolean usesDoublePath() {
+        int precision = mc.getPrecision();
+        return precision > 0 && precision <= DOUBLE_PRECISION_DIGITS;
+    }
+
+    /**
+     * Sums 1/p over a basis range without rounding, for an unlimited MathContext. A prefix
+     * table cannot serve that case; a non-terminating reciprocal throws as an exact division does.
+     */
+    private BigDecimal exactReciprocalSum(int fromIndex, int toIndex) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = fromIndex; i < toIndex; i++) {
+            sum = sum.add(BigDecimal.ONE.divide(BigDecimal.valueOf(primes[i])));
+        }
+        return sum;
+    }
+
+    /**
+     * Lazily builds BigDecimal prefix sums of 1/p for precisions beyond a double.
+     */
+    private BigDecimal[] decimalPrefix() {
+        BigDecimal[] prefix = decimalPrefix;
+        if (prefix == null) {
+            synchronized (this) {
+                prefix = decimalPrefix;
+                if (prefix == null) {
+                    MathContext wide = new MathContext(mc.getPrecision() + GUARD_DIGITS, mc.getRoundingMode());
+                    prefix = new BigDecimal[primes.length + 1];
+                    prefix[0] = BigDecimal.ZERO;
+                    for (int i = 0; i < primes.length; i++) {
+                        BigDecimal reciprocal = BigDecimal.ONE.divide(BigDecimal.valueOf(primes[i]), wide);
+                        prefix[i + 1] = prefix[i].add(reciprocal, wide);
+                    }
+                    decimalPrefix = prefix;
+                }
+            }
+        }
+        return prefix;
+    }
+
     public boolean isWithinField(BigDecimal x) {
-        for (BigDecimal p : primeBasis) {
+        if (primes.length == 0) {
+            return false;
+        }
+        if (x.signum() == 0) {
+            return true;
+        }
+        BigDecimal integral = x.stripTrailingZeros();
+        if (integral.scale() > 0) {
+            return false; // only integers are multiples of a basis prime
+        }
+        if (integral.precision() - integral.scale() <= 18) {
+            long n = Math.abs(integral.longValueExact());
+            for (long p : primes) {
+                if (p > n) {
+                    break;
+                }
+                if (n % p == 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (BigDecimal p : basis()) {
             if (x.remainder(p, mc).compareTo(BigDecimal.ZERO) == 0) {
                 return true;
             }
@@ -78,8 +237,44 @@ public class PrimeField {
         return false;
     }
 
+    private List<BigDecimal> basis() {
+        List<BigDecimal> basis = primeBasis;
+        if (basis == null) {
+            synchronized (this) {
+                basis = primeBasis;
+                if (basis == null) {
+                    basis = new ArrayList<>(primes.length);
+                    for (long p : primes) {
+                        basis.add(new BigDecimal(p, mc));
+                    }
+                    primeBasis = basis;
+                }
+            }
+        }
+        return basis;
+    }
+
     public List<BigDecimal> getPrimeBasis() {
-        return new ArrayList<>(primeBasis);
+        return new ArrayList<>(basis());
+    }
+
+    /**
+     * Returns the number of primes in the basis.
+     *
+     * @return basis size
+     */
+    public int size() {
+        return primes.length;
+    }
+
+    /**
+     * Returns the basis prime at {@code index} without materializing BigDecimals.
+     *
+     * @param index basis index
+     * @return prime value
+     */
+    public long primeAt(int index) {
+        return primes[index];
     }
 
     public MathContext getMathContext() {
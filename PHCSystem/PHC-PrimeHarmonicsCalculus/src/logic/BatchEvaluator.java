@@ -0,0 +1,248 @@
+/*
+ * Copyright © 2024 Devin B. Royal.
+ * All Rights Reserved.
+ *
+ * BatchEvaluator.java
+ * Column-at-a-time evaluation of ExpressionNode trees over arrays of bindings.
+ */
+
+package symbolic.logic;
+
+import symbolic.ast.ExpressionNode;
+import symbolic.util.ComplexUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates one expression over many bindings at once. The tree is flattened into a
+ * post-order list of column steps working on a small stack of {@value #BLOCK}-element
+ * registers, so every step is a plain counted loop over primitive arrays that the JIT can
+ * unroll and vectorize. Rows are processed in blocks that keep all registers in cache,
+ * and inputs of at least {@value #PARALLEL_THRESHOLD} rows are split across cores.
+ *
+ * <p>A row that makes the scalar evaluator throw makes the whole batch throw the same
+ * exception type and message, for division by zero and the log and sqrt domain errors.
+ * When several rows fail, which one is reported is unspecified.
+ */
+final class BatchEvaluator {
+
+    static final int BLOCK = 1024;
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int BLOCKS_PER_TASK = 16;
+
+    private static final int LOAD = 0;
+    private static final int CONST = 1;
+    private static final int ADD = 2;
+    private static final int SUB = 3;
+    private static final int MUL = 4;
+    private static final int DIV = 5;
+    private static final int POW = 6;
+    private static final int SIN = 7;
+    private static final int COS = 8;
+    private static final int TAN = 9;
+    private static final int EXP = 10;
+    private static final int LOG = 11;
+    private static final int SQRT = 12;
+    private static final int ABS = 13;
+    private static final int PRIMEHARM = 14;
+
+    /** One column step: {@code op} writes register {@code target}, reading {@code target + 1} for binary ops. */
+    private static final class Step {
+        final int op;
+        final int target;
+        final double[] column;
+        final double constant;
+
+        Step(int op, int target, double[] column, double constant) {
+            this.op = op;
+            this.target = target;
+            this.column = column;
+            this.constant = constant;
+        }
+    }
+
+    private final Step[] steps;
+    private final int registers;
+
+    private BatchEvaluator(Step[] steps, int registers) {
+        this.steps = steps;
+        this.registers = registers;
+    }
+
+    /**
+     * Flattens a tree. Variables bound to a column are read from it; other variables fall
+     * back to {@code scope} and are broadcast as constants.
+     *
+     * @param node    expression tree
+     * @param columns one array per variable
+     * @param scope   scalar bindings
+     * @param rows    number of rows to be evaluated
+     * @return evaluator for the tree
+     * @throws ArithmeticException           for an unbound variable or a function without arguments
+     * @throws UnsupportedOperationException for an unknown function
+     * @throws IllegalArgumentException      if a column is shorter than {@code rows}
+     */
+    static BatchEvaluator compile(ExpressionNode node, Map<String, double[]> columns, Map<String, Double> scope, int rows) {
+        List<Step> steps = new ArrayList<>();
+        int[] depth = {0, 0};
+        emit(node, columns, scope, rows, steps, depth);
+        return new BatchEvaluator(steps.toArray(new Step[0]), depth[1]);
+    }
+
+    private static void emit(ExpressionNode node, Map<String, double[]> columns, Map<String, Double> scope, int rows,
+                             List<Step> steps, int[] depth) {
+        if (node.isLiteral()) {
+            push(steps, depth, new Step(CONST, depth[0], null, node.getLiteralValue()));
+        } else if (node.isVariable()) {
+            String name = node.getVariableName();
+            double[] column = columns.get(name);
+            if (column != null) {
+                if (column.length < rows) {
+                    throw new IllegalArgumentException("Column " + name + " holds " + column.length + " of " + rows + " rows.");
+                }
+                push(steps, depth, new Step(LOAD, depth[0], column, 0));
+            } else if (scope.containsKey(name)) {
+                push(steps, depth, new Step(CONST, depth[0], null, scope.get(name)));
+            } else {
+                throw new ArithmeticException("Undefined variable: " + name);
+            }
+        } else if (node.isOperation()) {
+            emit(node.getLeft(), columns, scope, rows, steps, depth);
+            emit(node.getRight(), columns, scope, rows, steps, depth);
+            depth[0]--;
+            int op = switch (node.getOperation()) {
+                case ADD -> ADD;
+                case SUB -> SUB;
+                case MUL -> MUL;
+                case DIV -> DIV;
+                case POW -> POW;
+            };
+            steps.add(new Step(op, depth[0] - 1, null, 0));
+        } else if (node.isFunctionCall()) {
+            String name = node.getVariableName();
+            int op = switch (name.toLowerCase()) {
+                case "sin" -> SIN;
+                case "cos" -> COS;
+                case "tan" -> TAN;
+                case "exp" -> EXP;
+                case "log" -> LOG;
+                case "sqrt" -> SQRT;
+                case "abs" -> ABS;
+                case "primeharm" -> PRIMEHARM;
+                default -> throw new UnsupportedOperationException("Unknown function: " + name);
+            };
+            if (node.getArguments() == null || node.getArguments().isEmpty()) {
+                throw new ArithmeticException("Insufficient arguments for function: " + name);
+            }
+            emit(node.getArguments().get(0), columns, scope, rows, steps, depth);
+            steps.add(new Step(op, depth[0] - 1, null, 0));
+        } else {
+            throw new ArithmeticException("Unsupported node structure: " + node);
+        }
+    }
+
+    private static void push(List<Step> steps, int[] depth, Step step) {
+        steps.add(step);
+        depth[0]++;
+        depth[1] = Math.max(depth[1], depth[0]);
+    }
+
+    /**
+     * Evaluates rows [0, out.length), in parallel for large inputs.
+     *
+     * @param out receives one result per row
+     */
+    void evaluate(double[] out) {
+        int rows = out.length;
+        if (rows < PARALLEL_THRESHOLD) {
+            evaluate(out, 0, rows);
+            return;
+        }
+        int span = BLOCK * BLOCKS_PER_TASK;
+        AtomicReference<ArithmeticException> failure = new AtomicReference<>();
+        IntStream.range(0, (rows + span - 1) / span).parallel().forEach(task -> {
+            try {
+                evaluate(out, task * span, (int) Math.min(rows, (task + 1L) * span));
+            } catch (ArithmeticException e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+        if (failure.get() != null) {
+            throw failure.get(); // rethrown as is: ForkJoin would rebuild it without its message
+        }
+    }
+
+    private void evaluate(double[] out, int from, int to) {
+        double[][] reg = new double[registers][BLOCK];
+        for (int start = from; start < to; start += BLOCK) {
+            int n = Math.min(BLOCK, to - start);
+            for (Step step : steps) {
+                run(step, reg, start, n);
+            }
+            System.arraycopy(reg[0], 0, out, start, n);
+        }
+    }
+
+    private static void run(Step step, double[][] reg, int start, int n) {
+        double[] a = reg[step.target];
+        double[] b = step.target + 1 < reg.length ? reg[step.target + 1] : null;
+        switch (step.op) {
+            case LOAD -> System.arraycopy(step.column, start, a, 0, n);
+            case CONST -> Arrays.fill(a, 0, n, step.constant);
+            case ADD -> {
+                for (int i = 0; i < n; i++) a[i] += b[i];
+            }
+            case SUB -> {
+                for (int i = 0; i < n; i++) a[i] -= b[i];
+            }
+            case MUL -> {
+                for (int i = 0; i < n; i++) a[i] *= b[i];
+            }
+            case DIV -> {
+                boolean zero = false;
+                for (int i = 0; i < n; i++) zero |= b[i] == 0;
+                if (zero) throw new ArithmeticException("Division by zero");
+                for (int i = 0; i < n; i++) a[i] /= b[i];
+            }
+            case POW -> {
+                for (int i = 0; i < n; i++) a[i] = Math.pow(a[i], b[i]);
+            }
+            case SIN -> {
+                for (int i = 0; i < n; i++) a[i] = Math.sin(a[i]);
+            }
+            case COS -> {
+                for (int i = 0; i < n; i++) a[i] = Math.cos(a[i]);
+            }
+            case TAN -> {
+                for (int i = 0; i < n; i++) a[i] = Math.tan(a[i]);
+            }
+            case EXP -> {
+                for (int i = 0; i < n; i++) a[i] = Math.exp(a[i]);
+            }
+            case LOG -> {
+                boolean domain = false;
+                for (int i = 0; i < n; i++) domain |= a[i] <= 0;
+                if (domain) throw new ArithmeticException("log domain error");
+                for (int i = 0; i < n; i++) a[i] = Math.log(a[i]);
+            }
+            case SQRT -> {
+                boolean domain = false;
+                for (int i = 0; i < n; i++) domain |= a[i] < 0;
+                if (domain) throw new ArithmeticException("sqrt domain error");
+                for (int i = 0; i < n; i++) a[i] = Math.sqrt(a[i]);
+            }
+            case ABS -> {
+                for (int i = 0; i < n; i++) a[i] = Math.abs(a[i]);
+            }
+            case PRIMEHARM -> {
+                for (int i = 0; i < n; i++) a[i] = ComplexUtils.phcKernel(a[i]);
+            }
+            default -> throw new IllegalStateException("Unknown batch opcode: " + step.op);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package logic;
+
+import core.EvaluationCache;
+import util.ComplexUtils;
+import util.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Streaming, resumable scan of the critical line. The range is processed in chunks of
+ * fixed height, in ascending order, and every zero is passed to a sink as soon as its
+ * chunk has been searched, so memory use does not depend on the length of the range.
+ *
+ * <p>With a checkpoint file, zeros are also appended to a {@link ScanCheckpoint} and
+ * the position is committed at most every {@code checkpointIntervalMillis}, and always
+ * at the end. {@link #resume(Path, Consumer)} continues an interrupted scan from its last
+ * commit with the parameters stored in the file. Zeros committed before the interruption
+ * are not sent to the sink again; read them with {@link ScanCheckpoint#forEachZero}.
+ */
+public class CriticalLineScan {
+
+    /** Evaluator used to locate zeros. */
+    public enum Method {
+        /** {@link OmegaRootFinder} over the ζ-like components of {@link ComplexUtils}. */
+        GENERAL,
+        /** Sign changes of Hardy's Z-function via {@link RiemannSiegel}. */
+        RIEMANN_SIEGEL
+    }
+
+    /** Default height of the imaginary range searched per chunk. */
+    public static final BigDecimal DEFAULT_CHUNK_HEIGHT = BigDecimal.TEN;
+
+    /** Default minimum time between checkpoint commits. */
+    public static final long DEFAULT_CHECKPOINT_INTERVAL_MILLIS = 5_000;
+
+    private static final BigDecimal CRITICAL_LINE = new BigDecimal("0.5");
+
+    private final OmegaRootFinder finder;
+    private final Method method;
+    private final BigDecimal chunkHeight;
+    private final long checkpointIntervalMillis;
+    private final Logger logger;
+
+    /**
+     * Creates a scan with the default chunk height and checkpoint interval.
+     *
+     * @param finder root finder, also supplying the precision of reported zeros
+     * @param method evaluator used to locate zeros
+     */
+    public CriticalLineScan(OmegaRootFinder finder, Method method) {
+        this(finder, method, DEFAULT_CHUNK_HEIGHT, DEFAULT_CHECKPOINT_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Creates a scan.
+     *
+     * @param finder                   root finder, also supplying the precision of reported zeros
+     * @param method                   evaluator used to locate zeros
+     * @param chunkHeight              imaginary range searched between sink flushes
+     * @param checkpointIntervalMillis minimum time between checkpoint commits
+     */
+    public CriticalLineScan(OmegaRootFinder finder, Method method, BigDecimal chunkHeight,
+                            long checkpointIntervalMillis) {
+        if (chunkHeight.signum() <= 0) {
+            throw new IllegalArgumentException("Chunk height must be positive.");
+        }
+        if (checkpointIntervalMillis < 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be non-negative.");
+        }
+        this.finder = finder;
+        this.method = method;
+        this.chunkHeight = chunkHeight;
+        this.checkpointIntervalMillis = checkpointIntervalMillis;
+        this.logger = new Logger();
+    }
+
+    /**
+     * Scans [start, end] without a checkpoint.
+     *
+     * @param start lower end of the imaginary range
+     * @param end   upper end of the imaginary range
+     * @param sink  receives each zero in ascending order
+     * @return number of zeros found
+     */
+    public long run(BigDecimal start, BigDecimal end, Consumer<ComplexUtils.SurfaceResponse> sink) {
+        try {
+            return scan(start, end, 0, sink, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // unreachable without a checkpoint
+        }
+    }
+
+    /**
+     * Scans [start, end], recording progress in a new checkpoint file that replaces any
+     * existing one at {@code checkpoint}.
+     *
+     * @param start      lower end of the imaginary range
+     * @param end        upper end of the imaginary range
+     * @param sink       receives each zero in ascending order
+     * @param checkpoint checkpoint file
+     * @return number of zeros found
+     * @throws IOException if the checkpoint cannot be written
+     */
+    public long run(BigDecimal start, BigDecimal end, Consumer<ComplexUtils.SurfaceResponse> sink,
+                    Path checkpoint) throws IOException {
+        try (ScanCheckpoint file = ScanCheckpoint.create(checkpoint, method, finder.getMathContext().getPrecision(),
+                finder.getScanStep(), start, end, chunkHeight, finder.getTolerance())) {
+            return scan(start, end, 0, sink, file);
+        }
+    }
+
+    /**
+     * Continues the scan recorded in {@code checkpoint} from its last commit, using the
+     * ζ-like components of {@link ComplexUtils} through the shared {@link EvaluationCache}.
+     *
+     * @param checkpoint checkpoint file written by an earlier run
+     * @param sink       receives each newly found zero in ascending order
+     * @return total number of zeros, including those committed before the interruption
+     * @throws IOException if the checkpoint cannot be read or written
+     */
+    public static long resume(Path checkpoint, Consumer<ComplexUtils.SurfaceResponse> sink) throws IOException {
+        return resume(checkpoint, sink, EvaluationCache.shared()::realPart, EvaluationCache.shared()::imaginaryPart);
+    }
+
+    /**
+     * Continues the scan recorded in {@code checkpoint} from its last commit with the given
+     * components, which should be the ones the interrupted run used. The precision, scan
+     * step, tolerance and chunk height are taken from the file.
+     *
+     * @param checkpoint checkpoint file written by an earlier run
+     * @param sink       receives each newly found zero in ascending order
+     * @param real       real part of the function searched
+     * @param imaginary  imaginary part of the function searched
+     * @return total number of zeros, including those committed before the interruption
+     * @throws IOException if the checkpoint cannot be read or written
+     */
+    public static long resume(Path checkpoint, Consumer<ComplexUtils.SurfaceResponse> sink,
+                              OmegaRootFinder.Component real, OmegaRootFinder.Component imaginary) throws IOException {
+        try (ScanCheckpoint file = ScanCheckpoint.open(checkpoint)) {
+            OmegaRootFinder finder = new OmegaRootFinder(new MathContext(file.getPrecision()), real, imaginary,
+                    file.getScanStep(), file.getTolerance());
+            CriticalLineScan scan = new CriticalLineScan(finder, file.getMethod(), file.getChunkHeight(),
+                    DEFAULT_CHECKPOINT_INTERVAL_MILLIS);
+            scan.logger.info("Resuming scan of [" + file.getStart() + ", " + file.getEnd() + "] at chunk "
+                    + file.getNextChunk() + " with " + file.getZeroCount() + " zeros recorded.");
+            return scan.scan(file.getStart(), file.getEnd(), file.getNextChunk(), sink, file);
+        }
+    }
+
+    private long scan(BigDecimal start, BigDecimal end, long firstChunk,
+                      Consumer<ComplexUtils.SurfaceResponse> sink, ScanCheckpoint checkpoint) throws IOException {
+        double from = start.doubleValue();
+        double to = end.doubleValue();
+        long cells = finder.cellCount(from, to);
+        long cellsPerChunk = Math.max(1, (long) Math.floor(chunkHeight.doubleValue() / finder.getScanStep()));
+        long chunks = method == Method.GENERAL
+                ? (cells + cellsPerChunk - 1) / cellsPerChunk
+                : Math.max(0, (long) Math.ceil((to - from) / chunkHeight.doubleValue()));
+        MathContext mc = finder.getMathContext();
+
+        long found = checkpoint == null ? 0 : checkpoint.getZeroCount();
+        long lastCommit = System.currentTimeMillis();
+        for (long chunk = firstChunk; chunk < chunks; chunk++) {
+            ZeroCollector collector = new ZeroCollector(sink, checkpoint);
+            if (method == Method.GENERAL) {
+                long firstCell = chunk * cellsPerChunk;
+                finder.scan(CRITICAL_LINE, from, to, firstCell, Math.min(firstCell + cellsPerChunk, cells),
+                        zero -> collector.accept(zero.getImaginary()), false);
+            } else {
+                double low = from + chunk * chunkHeight.doubleValue();
+                double high = chunk == chunks - 1 ? to : from + (chunk + 1) * chunkHeight.doubleValue();
+                boolean last = chunk == chunks - 1;
+                int missing = RiemannSiegel.forEachZero(low, high, RiemannSiegel.DEFAULT_SAMPLES_PER_GRAM_INTERVAL, t -> {
+                    if (last || t < high) { // the next chunk owns a zero on the shared edge
+                        collector.accept(new BigDecimal(t).round(mc));
+                    }
+                });
+                if (missing > 0) {
+                    logger.warn("Chunk [" + low + ", " + high + "] is incomplete: " + missing
+                            + " zeros predicted by Rosser's rule could not be separated.");
+                }
+            }
+            if (collector.failure != null) {
+                throw collector.failure;
+            }
+            found += collector.count;
+
+            long now = System.currentTimeMillis();
+            if (checkpoint != null && (chunk == chunks - 1 || now - lastCommit >= checkpointIntervalMillis)) {
+                checkpoint.commit(chunk + 1);
+                lastCommit = now;
+                logger.debug("Checkpoint committed at chunk " + (chunk + 1) + " of " + chunks + ".");
+            }
+        }
+        logger.info("Critical line scan complete: " + found + " zeros.");
+        return found;
+    }
+
+    /**
+     * Forwards the zeros of one chunk to the sink and the checkpoint, holding back the
+     * first I/O failure so it can be rethrown outside the evaluator callbacks.
+     */
+    private static final class ZeroCollector {
+        private final Consumer<ComplexUtils.SurfaceResponse> sink;
+        private final ScanCheckpoint checkpoint;
+        private IOException failure;
+        private long count;
+
+        ZeroCollector(Consumer<ComplexUtils.SurfaceResponse> sink, ScanCheckpoint checkpoint) {
+            this.sink = sink;
+            this.checkpoint = checkpoint;
+        }
+
+        void accept(BigDecimal height) {
+            if (failure != null) {
+                return;
+            }
+            try {
+                if (checkpoint != null) {
+                    checkpoint.append(height);
+                }
+            } catch (IOException e) {
+                failure = e;
+                return;
+            }
+            count++;
+            sink.accept(ComplexUtils.SurfaceResponse.success(CRITICAL_LINE, height));
+        }
+    }
+}
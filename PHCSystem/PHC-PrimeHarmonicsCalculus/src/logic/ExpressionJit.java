@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2024 Devin B. Royal.
+ * All Rights Reserved.
+ *
+ * ExpressionJit.java
+ * Compiles hot ExpressionNode trees into MethodHandle combinator trees.
+ */
+
+package symbolic.logic;
+
+import symbolic.ast.ExpressionNode;
+import symbolic.util.ComplexUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+/**
+ * Second evaluation tier for {@link PHCLogicEvaluator}: lowers an expression tree to a
+ * single {@code (double[])double} MethodHandle built from combinators. Variables become
+ * loads from a slot array, operators and built-in functions become direct static calls, and
+ * the whole tree is one LambdaForm graph that HotSpot compiles and inlines like straight-line
+ * Java. The semantics match the tree walker, including its domain checks. Callers must still
+ * re-run the interpreter when a handle throws, because the order in which combinators
+ * evaluate sibling operands is unspecified; the interpreter then reports the exact error.
+ */
+final class ExpressionJit {
+
+    private static final MethodType UNARY = MethodType.methodType(double.class, double.class);
+    private static final MethodType BINARY = MethodType.methodType(double.class, double.class, double.class);
+    private static final MethodHandle ELEMENT = MethodHandles.arrayElementGetter(double[].class);
+
+    private static final MethodHandle ADD;
+    private static final MethodHandle SUB;
+    private static final MethodHandle MUL;
+    private static final MethodHandle DIV;
+    private static final MethodHandle POW;
+    private static final MethodHandle SIN;
+    private static final MethodHandle COS;
+    private static final MethodHandle TAN;
+    private static final MethodHandle EXP;
+    private static final MethodHandle LOG;
+    private static final MethodHandle SQRT;
+    private static final MethodHandle ABS;
+    private static final MethodHandle PRIMEHARM;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            ADD = lookup.findStatic(ExpressionJit.class, "add", BINARY);
+            SUB = lookup.findStatic(ExpressionJit.class, "sub", BINARY);
+            MUL = lookup.findStatic(ExpressionJit.class, "mul", BINARY);
+            DIV = lookup.findStatic(ExpressionJit.class, "div", BINARY);
+            POW = lookup.findStatic(Math.class, "pow", BINARY);
+            SIN = lookup.findStatic(Math.class, "sin", UNARY);
+            COS = lookup.findStatic(Math.class, "cos", UNARY);
+            TAN = lookup.findStatic(Math.class, "tan", UNARY);
+            EXP = lookup.findStatic(Math.class, "exp", UNARY);
+            LOG = lookup.findStatic(ExpressionJit.class, "log", UNARY);
+            SQRT = lookup.findStatic(ExpressionJit.class, "sqrt", UNARY);
+            ABS = lookup.findStatic(Math.class, "abs", UNARY);
+            PRIMEHARM = lookup.findStatic(ComplexUtils.class, "phcKernel", UNARY);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private ExpressionJit() {
+        throw new UnsupportedOperationException("ExpressionJit is a static utility class.");
+    }
+
+    /**
+     * Compiles a tree to a {@code (double[])double} handle. Each distinct variable is given
+     * a slot, appended to {@code slots} in first-use order.
+     *
+     * @param node  expression tree
+     * @param slots receives the variable name of each slot
+     * @return compiled handle
+     * @throws UnsupportedOperationException if the tree contains a node the tier cannot compile
+     */
+    static MethodHandle compile(ExpressionNode node, List<String> slots) {
+        if (node.isLiteral()) {
+            MethodHandle constant = MethodHandles.constant(double.class, node.getLiteralValue());
+            return MethodHandles.dropArguments(constant, 0, double[].class);
+        }
+        if (node.isVariable()) {
+            int slot = slots.indexOf(node.getVariableName());
+            if (slot < 0) {
+                slot = slots.size();
+                slots.add(node.getVariableName());
+            }
+            return MethodHandles.insertArguments(ELEMENT, 1, slot);
+        }
+        if (node.isOperation()) {
+            MethodHandle left = compile(node.getLeft(), slots);
+            MethodHandle right = compile(node.getRight(), slots);
+            MethodHandle combined = MethodHandles.filterArguments(operator(node), 0, left, right);
+            return MethodHandles.permuteArguments(combined, MethodType.methodType(double.class, double[].class), 0, 0);
+        }
+        if (node.isFunctionCall() && node.getArguments() != null && !node.getArguments().isEmpty()) {
+            MethodHandle argument = compile(node.getArguments().get(0), slots);
+            return MethodHandles.filterArguments(function(node.getVariableName()), 0, argument);
+        }
+        throw new UnsupportedOperationException("Cannot compile node: " + node);
+    }
+
+    private static MethodHandle operator(ExpressionNode node) {
+        return switch (node.getOperation()) {
+            case ADD -> ADD;
+            case SUB -> SUB;
+            case MUL -> MUL;
+            case DIV -> DIV;
+            case POW -> POW;
+        };
+    }
+
+    private static MethodHandle function(String name) {
+        return switch (name.toLowerCase()) { // same case folding as the interpreter
+            case "sin" -> SIN;
+            case "cos" -> COS;
+            case "tan" -> TAN;
+            case "exp" -> EXP;
+            case "log" -> LOG;
+            case "sqrt" -> SQRT;
+            case "abs" -> ABS;
+            case "primeharm" -> PRIMEHARM;
+            default -> throw new UnsupportedOperationException("Cannot compile function: " + name);
+        };
+    }
+
+    private static double add(double left, double right) {
+        return left + right;
+    }
+
+    private static double sub(double left, double right) {
+        return left - right;
+    }
+
+    private static double mul(double left, double right) {
+        return left * right;
+    }
+
+    private static double div(double left, double right) {
+        if (right == 0) throw new ArithmeticException("Division by zero");
+        return left / right;
+    }
+
+    private static double log(double value) {
+        if (value <= 0) throw new ArithmeticException("log domain error");
+        return Math.log(value);
+    }
+
+    private static double sqrt(double value) {
+        if (value < 0) throw new ArithmeticException("sqrt domain error");
+        return Math.sqrt(value);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2024 Devin B. Royal.
+ * All Rights Reserved.
+ *
+ * ExpressionOptimizer.java
+ * Simplifies ExpressionNode trees and merges repeated subexpressions into a DAG.
+ */
+
+package symbolic.logic;
+
+import symbolic.ast.ExpressionNode;
+import symbolic.ast.OperationType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One bottom-up pass over an expression tree that applies, at every node:
+ * <ul>
+ *   <li>constant folding of operators and built-in functions whose operands are literals;</li>
+ *   <li>the identities {@code x + 0}, {@code 0 + x}, {@code x - 0}, {@code x * 1},
+ *       {@code 1 * x}, {@code x / 1} and {@code x ^ 1};</li>
+ *   <li>strength reduction of {@code x ^ n} for integers 2 to {@value #MAX_SQUARING_EXPONENT}
+ *       into multiplications by repeated squaring, so {@code x ^ 2} becomes {@code x * x};</li>
+ *   <li>hash-consing: structurally equal subtrees become one shared node.</li>
+ * </ul>
+ * No rewrite removes a failure. A division by zero, or a log or sqrt outside its domain,
+ * is left in place and still throws when the expression is evaluated, and no operand is
+ * dropped, so an undefined variable is still reported.
+ *
+ * <p>The optimized expression gives the same results as the original except for two
+ * floating-point details. Expanded powers may differ from {@link Math#pow} in the last
+ * few bits, and {@code x + 0} keeps a negative zero where the sum would have been positive.
+ * Arguments past the first are dropped from function calls, as the evaluator never reads them.
+ * When several nodes of an expression would fail, which failure is reported may change.
+ */
+public final class ExpressionOptimizer {
+
+    /** Largest integer exponent expanded into multiplications. */
+    public static final int MAX_SQUARING_EXPONENT = 64;
+
+    private static final int LITERAL = 0;
+    private static final int VARIABLE = 1;
+    private static final int OPERATION = 2;
+    private static final int FUNCTION = 3;
+
+    /** Structural identity of a node whose children are already canonical. */
+    private record Key(int kind, OperationType operation, String name, long bits, ExpressionNode left, ExpressionNode right) {
+    }
+
+    private final Map<Key, ExpressionNode> canonical = new HashMap<>();
+    private int foldedConstants;
+    private int identities;
+    private int strengthReductions;
+    private int sharedSubexpressions;
+
+    private ExpressionOptimizer() {
+    }
+
+    /**
+     * Optimizes a tree. The input is not modified.
+     *
+     * @param node expression tree
+     * @return optimized DAG with its evaluation order and report
+     */
+    public static OptimizedExpression optimize(ExpressionNode node) {
+        ExpressionOptimizer optimizer = new ExpressionOptimizer();
+        ExpressionNode root = optimizer.rewrite(node);
+
+        Map<ExpressionNode, Integer> slots = new IdentityHashMap<>();
+        List<ExpressionNode> order = new ArrayList<>();
+        number(root, slots, order);
+        int[] left = new int[order.size()];
+        int[] right = new int[order.size()];
+        for (int i = 0; i < order.size(); i++) {
+            ExpressionNode current = order.get(i);
+            left[i] = -1;
+            right[i] = -1;
+            if (current.isOperation()) {
+                left[i] = slots.get(current.getLeft());
+                right[i] = slots.get(current.getRight());
+            } else if (hasArgument(current)) {
+                left[i] = slots.get(current.getArguments().get(0));
+            }
+        }
+        return new OptimizedExpression(root, order.toArray(new ExpressionNode[0]), left, right, count(node),
+                optimizer.foldedConstants, optimizer.identities, optimizer.strengthReductions,
+                optimizer.sharedSubexpressions);
+    }
+
+    private ExpressionNode rewrite(ExpressionNode node) {
+        if (node.isLiteral()) {
+            return intern(new Key(LITERAL, null, null, Double.doubleToLongBits(node.getLiteralValue()), null, null), node);
+        }
+        if (node.isVariable()) {
+            return intern(new Key(VARIABLE, null, node.getVariableName(), 0, null, null), node);
+        }
+        if (node.isOperation()) {
+            return simplify(node.getOperation(), rewrite(node.getLeft()), rewrite(node.getRight()));
+        }
+        if (hasArgument(node)) {
+            String name = node.getVariableName();
+            ExpressionNode argument = rewrite(node.getArguments().get(0));
+            if (argument.isLiteral() && PHCLogicEvaluator.isBuiltinFunction(name)) {
+                try {
+                    double value = PHCLogicEvaluator.applyFunction(name, argument.getLiteralValue());
+                    foldedConstants++;
+                    return literal(value);
+                } catch (ArithmeticException e) {
+                    // out of the function's domain: keep the call so evaluation still fails
+                }
+            }
+            return intern(new Key(FUNCTION, null, name, 0, argument, null), new ExpressionNode(name, List.of(argument)));
+        }
+        return node; // a call without arguments, or a node the evaluator rejects anyway
+    }
+
+    private ExpressionNode simplify(OperationType op, ExpressionNode left, ExpressionNode right) {
+        if (left.isLiteral() && right.isLiteral()) {
+            try {
+                double value = PHCLogicEvaluator.applyOperation(op, left.getLiteralValue(), right.getLiteralValue());
+                foldedConstants++;
+                return literal(value);
+            } catch (ArithmeticException e) {
+                // division by zero: keep the operation so evaluation still fails
+            }
+        }
+        switch (op) {
+            case ADD -> {
+                if (isLiteral(right, 0)) return identity(left);
+                if (isLiteral(left, 0)) return identity(right);
+            }
+            case SUB -> {
+                if (isLiteral(right, 0)) return identity(left);
+            }
+            case MUL -> {
+                if (isLiteral(right, 1)) return identity(left);
+                if (isLiteral(left, 1)) return identity(right);
+            }
+            case DIV -> {
+                if (isLiteral(right, 1)) return identity(left);
+            }
+            case POW -> {
+                if (isLiteral(right, 1)) return identity(left);
+                if (right.isLiteral()) {
+                    double exponent = right.getLiteralValue();
+                    if (exponent >= 2 && exponent <= MAX_SQUARING_EXPONENT && exponent == Math.rint(exponent)) {
+                        strengthReductions++;
+                        return power(left, (int) exponent);
+                    }
+                }
+            }
+        }
+        return operation(op, left, right);
+    }
+
+    /** x ^ n by repeated squaring; the squares are shared nodes, so x ^ 8 costs three multiplications. */
+    private ExpressionNode power(ExpressionNode base, int exponent) {
+        ExpressionNode result = null;
+        ExpressionNode square = base;
+        while (true) {
+            if ((exponent & 1) != 0) {
+                result = result == null ? square : operation(OperationType.MUL, result, square);
+            }
+            exponent >>= 1;
+            if (exponent == 0) {
+                return result;
+            }
+            square = operation(OperationType.MUL, square, square);
+        }
+    }
+
+    private ExpressionNode identity(ExpressionNode operand) {
+        identities++;
+        return operand;
+    }
+
+    private ExpressionNode operation(OperationType op, ExpressionNode left, ExpressionNode right) {
+        return intern(new Key(OPERATION, op, null, 0, left, right), null);
+    }
+
+    private ExpressionNode literal(double value) {
+        return intern(new Key(LITERAL, null, null, Double.doubleToLongBits(value), null, null), null);
+    }
+
+    /** Returns the canonical node for {@code key}, registering {@code node} (or a new one) if there is none. */
+    private ExpressionNode intern(Key key, ExpressionNode node) {
+        ExpressionNode existing = canonical.get(key);
+        if (existing != null) {
+            if (key.kind() == OPERATION || key.kind() == FUNCTION) {
+                sharedSubexpressions++;
+            }
+            return existing;
+        }
+        if (node == null) {
+            node = key.kind() == LITERAL
+                    ? new ExpressionNode(Double.longBitsToDouble(key.bits()))
+                    : new ExpressionNode(key.operation(), key.left(), key.right());
+        }
+        canonical.put(key, node);
+        return node;
+    }
+
+    private static boolean isLiteral(ExpressionNode node, double value) {
+        return node.isLiteral() && node.getLiteralValue() == value;
+    }
+
+    private static boolean hasArgument(ExpressionNode node) {
+        return node.isFunctionCall() && node.getArguments() != null && !node.getArguments().isEmpty();
+    }
+
+    /** Assigns slots in post-order, left before right, visiting each shared node once. */
+    private static void number(ExpressionNode node, Map<ExpressionNode, Integer> slots, List<ExpressionNode> order) {
+        if (slots.containsKey(node)) {
+            return;
+        }
+        if (node.isOperation()) {
+            number(node.getLeft(), slots, order);
+            number(node.getRight(), slots, order);
+        } else if (hasArgument(node)) {
+            number(node.getArguments().get(0), slots, order);
+        }
+        slots.put(node, order.size());
+        order.add(node);
+    }
+
+    private static int count(ExpressionNode node) {
+        if (node == null) {
+            return 0;
+        }
+        if (node.isOperation()) {
+            return 1 + count(node.getLeft()) + count(node.getRight());
+        }
+        int total = 1;
+        if (node.isFunctionCall() && node.getArguments() != null) {
+            for (ExpressionNode argument : node.getArguments()) {
+                total += count(argument);
+            }
+        }
+        return total;
+    }
+}
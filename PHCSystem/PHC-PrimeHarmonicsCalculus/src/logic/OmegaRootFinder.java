@@ -0,0 +1,509 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package logic;
+
+import core.EvaluationCache;
+import util.ComplexUtils;
+import util.Logger;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Bracket-and-refine zero finder for PHC ζ-like functions along a vertical line Re(s) = x.
+ *
+ * <p>The line is sampled on a uniform grid at {@link MathContext#DECIMAL64} precision,
+ * which is cheap and only used to decide signs. Both parts change sign at a simple zero,
+ * so a grid cell is a candidate when either part changes sign across it (see
+ * {@link #candidate}). Each candidate is narrowed by Brent's method on the changing
+ * component in double precision, then polished by secant steps at the configured
+ * MathContext. A candidate is reported only if the modulus at the polished point is
+ * within the acceptance tolerance, so sign changes of one part alone are rejected.
+ *
+ * <p>Grid points are {@code from + k * step} for a global cell index {@code k}, and a
+ * cell owns a zero on its left endpoint, so any partition of the cell range yields the
+ * same zeros as a single pass.
+ */
+public class OmegaRootFinder {
+
+    /** One component (real or imaginary part) of the function being searched. */
+    @FunctionalInterface
+    public interface Component {
+        BigDecimal evaluate(BigDecimal x, BigDecimal y, MathContext mc);
+    }
+
+    /** Default grid spacing of the sign scan along the imaginary axis. */
+    public static final double DEFAULT_SCAN_STEP = 0.01;
+
+    /** Default largest modulus accepted at a polished zero. */
+    public static final BigDecimal DEFAULT_TOLERANCE = new BigDecimal("0.0005");
+
+    private static final MathContext SCAN = MathContext.DECIMAL64;
+    private static final int MAX_REFINE_ITER = 100;
+    private static final int MAX_POLISH_ITER = 30;
+
+    /** Multiple of the tolerance allowed for the other component at a double-precision root. */
+    private static final double PREFILTER = 10.0;
+
+    private final MathContext mc;
+    private final Component real;
+    private final Component imaginary;
+    private final double scanStep;
+    private final BigDecimal tolerance;
+    private final Logger logger;
+
+    /**
+     * Creates a finder for the ζ-like function of {@link ComplexUtils} with default settings,
+     * evaluated through the shared {@link EvaluationCache}.
+     *
+     * @param mc precision of the final polish
+     */
+    public OmegaRootFinder(MathContext mc) {
+        this(mc, EvaluationCache.shared()::realPart, EvaluationCache.shared()::imaginaryPart,
+                DEFAULT_SCAN_STEP, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Creates a finder for an arbitrary function given by its components.
+     *
+     * @param mc        precision of the final polish
+     * @param real      real part of the function
+     * @param imaginary imaginary part of the function
+     * @param scanStep  grid spacing of the sign scan; zeros closer together than this may be missed
+     * @param tolerance largest modulus accepted at a polished zero
+     */
+    public OmegaRootFinder(MathContext mc, Component real, Component imaginary, double scanStep, BigDecimal tolerance) {
+        if (!(scanStep > 0)) {
+            throw new IllegalArgumentException("Scan step must be positive.");
+        }
+        this.mc = mc;
+        this.real = real;
+        this.imaginary = imaginary;
+        this.scanStep = scanStep;
+        this.tolerance = tolerance;
+        this.logger = new Logger();
+    }
+
+    public MathContext getMathContext() {
+        return mc;
+    }
+
+    public double getScanStep() {
+        return scanStep;
+    }
+
+    public BigDecimal getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Returns every zero on Re(s) = x with imaginary part in [from, to], in ascending order.
+     *
+     * @param x    real part of the search line
+     * @param from lower end of the imaginary range
+     * @param to   upper end of the imaginary range
+     * @return zeros found
+     */
+    public List<OmegaZero> findZeros(BigDecimal x, BigDecimal from, BigDecimal to) {
+        List<OmegaZero> zeros = new ArrayList<>();
+        scan(x, from.doubleValue(), to.doubleValue(), 0, cellCount(from.doubleValue(), to.doubleValue()), zeros::add, false);
+        return zeros;
+    }
+
+    /**
+     * Partitioned form of {@link #findZeros(BigDecimal, BigDecimal, BigDecimal)} with a given
+     * number of workers. A parallelism equal to that of the common pool runs there; any other
+     * value gets a pool for the duration of the call. Callers scanning repeatedly with a
+     * custom parallelism should keep their own pool and use the overload taking one.
+     *
+     * @param x           real part of the search line
+     * @param from        lower end of the imaginary range
+     * @param to          upper end of the imaginary range
+     * @param chunkHeight length of the imaginary range covered by one chunk
+     * @param parallelism number of worker threads, at least 1
+     * @param listener    per-chunk progress callback, may be {@code null}
+     * @return zeros found, in ascending order
+     */
+    public List<OmegaZero> findZeros(BigDecimal x, BigDecimal from, BigDecimal to, BigDecimal chunkHeight,
+                                     int parallelism, ScanProgressListener listener) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+        if (parallelism == ForkJoinPool.getCommonPoolParallelism()) {
+            return findZeros(x, from, to, chunkHeight, ForkJoinPool.commonPool(), listener);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return findZeros(x, from, to, chunkHeight, pool, listener);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Partitioned form of {@link #findZeros(BigDecimal, BigDecimal, BigDecimal)}: the grid is cut
+     * into chunks of whole cells that are searched on {@code pool} and concatenated in
+     * ascending order. Chunks read one grid point beyond each edge and own only zeros
+     * starting in their own cells, so the result is identical to the sequential scan.
+     *
+     * @param x           real part of the search line
+     * @param from        lower end of the imaginary range
+     * @param to          upper end of the imaginary range
+     * @param chunkHeight length of the imaginary range covered by one chunk
+     * @param pool        pool searching the chunks
+     * @param listener    per-chunk progress callback, may be {@code null}
+     * @return zeros found, in ascending order
+     */
+    public List<OmegaZero> findZeros(BigDecimal x, BigDecimal from, BigDecimal to, BigDecimal chunkHeight,
+                                     ForkJoinPool pool, ScanProgressListener listener) {
+        if (chunkHeight.signum() <= 0) {
+            throw new IllegalArgumentException("Chunk height must be positive.");
+        }
+        double low = from.doubleValue();
+        double high = to.doubleValue();
+        long cells = cellCount(low, high);
+        long cellsPerChunk = Math.max(1, (long) Math.floor(chunkHeight.doubleValue() / scanStep));
+        long chunks = (cells + cellsPerChunk - 1) / cellsPerChunk;
+        if (chunks == 0) {
+            return new ArrayList<>();
+        }
+        if (chunks > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many chunks; increase the chunk height.");
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        List<OmegaZero>[] results = new List[(int) chunks];
+        pool.invoke(new ChunkTask(x, low, high, cells, cellsPerChunk, 0, results.length, results,
+                listener, new AtomicInteger()));
+
+        List<OmegaZero> zeros = new ArrayList<>();
+        for (List<OmegaZero> chunk : results) {
+            zeros.addAll(chunk);
+        }
+        return zeros;
+    }
+
+    /**
+     * Returns the zero with the smallest imaginary part in [from, to], or {@code null} if none.
+     *
+     * @param x    real part of the search line
+     * @param from lower end of the imaginary range
+     * @param to   upper end of the imaginary range
+     * @return first zero, or null
+     */
+    public OmegaZero firstZero(BigDecimal x, BigDecimal from, BigDecimal to) {
+        OmegaZero[] first = new OmegaZero[1];
+        scan(x, from.doubleValue(), to.doubleValue(), 0, cellCount(from.doubleValue(), to.doubleValue()),
+                z -> first[0] = z, true);
+        return first[0];
+    }
+
+    /**
+     * Returns the number of grid cells covering [from, to].
+     */
+    long cellCount(double from, double to) {
+        if (!(to >= from)) {
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((to - from) / scanStep));
+    }
+
+    /**
+     * Returns grid point {@code k} of a scan over [from, to] with {@code cells} cells.
+     */
+    double gridPoint(double from, double to, long cells, long k) {
+        return k >= cells ? to : from + k * scanStep;
+    }
+
+    /**
+     * Scans the global cells [firstCell, endCell) of the grid over [from, to] and passes each
+     * accepted zero to {@code sink} in ascending order. The last cell also owns its right
+     * endpoint. Neighbouring grid points outside the cell range are sampled for the
+     * imaginary-part test, so adjacent partitions overlap by one point on each side.
+     *
+     * @return true if the scan stopped early at the first zero
+     */
+    boolean scan(BigDecimal x, double from, double to, long firstCell, long endCell,
+                 Consumer<OmegaZero> sink, boolean stopAtFirst) {
+        long cells = cellCount(from, to);
+        if (firstCell >= endCell) {
+            return false;
+        }
+        // rolling window of grid points k-1 .. k+2 around cell k = [k, k+1]
+        double[] ys = new double[4];
+        double[] res = new double[4];
+        double[] ims = new double[4];
+        for (int i = 0; i < 4; i++) {
+            long k = Math.min(Math.max(firstCell - 1 + i, 0), cells);
+            ys[i] = gridPoint(from, to, cells, k);
+            res[i] = scanValue(real, x, ys[i]);
+            ims[i] = scanValue(imaginary, x, ys[i]);
+        }
+        for (long k = firstCell; k < endCell; k++) {
+            boolean lastCell = k == cells - 1;
+            Component pivot = candidate(res, ims, lastCell);
+            if (pivot != null) {
+                double[] values = pivot == real ? res : ims;
+                OmegaZero zero = refine(x, pivot, ys[1], ys[2], values[1], values[2]);
+                if (zero != null) {
+                    sink.accept(zero);
+                    if (stopAtFirst) {
+                        return true;
+                    }
+                }
+            }
+            if (k + 1 < endCell) {
+                System.arraycopy(ys, 1, ys, 0, 3);
+                System.arraycopy(res, 1, res, 0, 3);
+                System.arraycopy(ims, 1, ims, 0, 3);
+                long next = Math.min(k + 3, cells);
+                ys[3] = gridPoint(from, to, cells, next);
+                res[3] = scanValue(real, x, ys[3]);
+                ims[3] = scanValue(imaginary, x, ys[3]);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Picks the component to refine in cell [1, 2] of the window, or null if the cell cannot
+     * hold a zero. Sign changes of the real part are always refined. A sign change of the
+     * imaginary part is refined only when the real part shows none nearby, which catches
+     * zeros where the real part crosses twice within one cell without refining a zero twice.
+     */
+    private Component candidate(double[] res, double[] ims, boolean lastCell) {
+        if (changes(res, 1, lastCell)) {
+            return real;
+        }
+        if (changes(ims, 1, lastCell) && !changes(res, 0, false) && !changes(res, 2, false)) {
+            return imaginary;
+        }
+        return null;
+    }
+
+    /**
+     * True if the sampled values change sign over window cell [i, i + 1], counting a zero on
+     * the left endpoint, or on the right endpoint of the final cell.
+     */
+    private static boolean changes(double[] values, int i, boolean closed) {
+        return values[i] == 0.0 || Math.signum(values[i]) * Math.signum(values[i + 1]) < 0
+                || (closed && values[i + 1] == 0.0);
+    }
+
+    /**
+     * Narrows the sign change of one component on [low, high] and polishes it at full precision.
+     *
+     * @return the zero, or null if the modulus at the refined point exceeds the tolerance
+     */
+    private OmegaZero refine(BigDecimal x, Component pivot, double low, double high, double fLow, double fHigh) {
+        int[] evaluations = {0};
+        double root;
+        double width;
+        if (fLow == 0.0) {
+            root = low;
+            width = 0.0;
+        } else if (fHigh == 0.0) {
+            root = high;
+            width = 0.0;
+        } else {
+            double[] bracket = brent(y -> scanValue(pivot, x, y), low, high, fLow, fHigh, evaluations);
+            root = bracket[0];
+            width = bracket[1];
+        }
+        double other = scanValue(pivot == real ? imaginary : real, x, root);
+        evaluations[0]++;
+        if (Math.abs(other) > PREFILTER * tolerance.doubleValue()) {
+            return null; // only one component vanishes here; skip the full-precision polish
+        }
+
+        BigDecimal y = new BigDecimal(root);
+        double error = width;
+        if (mc.getPrecision() == 0 || mc.getPrecision() > SCAN.getPrecision()) {
+            double[] step = {width};
+            BigDecimal polished = polish(x, pivot, y, step, evaluations);
+            if (Math.abs(polished.doubleValue() - root) <= Math.max(width, Math.ulp(root) * 64)) {
+                y = polished;
+                error = step[0];
+            } // otherwise the secant wandered out of the bracket; keep the double root
+        }
+        y = y.round(mc);
+
+        BigDecimal re = real.evaluate(x, y, mc);
+        BigDecimal im = imaginary.evaluate(x, y, mc);
+        evaluations[0] += 2;
+        BigDecimal residual = re.multiply(re, mc).add(im.multiply(im, mc), mc).sqrt(mc);
+        if (residual.compareTo(tolerance) > 0) {
+            return null;
+        }
+        OmegaZero zero = new OmegaZero(x, y, residual, error, width, evaluations[0]);
+        logger.debug("Zero refined: " + zero);
+        return zero;
+    }
+
+    /**
+     * Brent's method on a real function over a bracketing interval, in double precision.
+     * {@code evaluations[0]} is incremented per evaluation of {@code f}.
+     *
+     * @return {root, final bracket width}
+     */
+    static double[] brent(DoubleUnaryOperator f, double a, double b, double fa, double fb, int[] evaluations) {
+        double c = a;
+        double fc = fa;
+        double d = b - a;
+        double e = d;
+        for (int iter = 0; iter < MAX_REFINE_ITER; iter++) {
+            if (Math.signum(fb) == Math.signum(fc)) {
+                c = a;
+                fc = fa;
+                d = b - a;
+                e = d;
+            }
+            if (Math.abs(fc) < Math.abs(fb)) {
+                a = b;
+                b = c;
+                c = a;
+                fa = fb;
+                fb = fc;
+                fc = fa;
+            }
+            double tol = 2 * Math.ulp(b) + 0.5e-15 * Math.abs(b);
+            double m = 0.5 * (c - b);
+            if (Math.abs(m) <= tol || fb == 0.0) {
+                return new double[]{b, Math.abs(c - b)};
+            }
+            if (Math.abs(e) >= tol && Math.abs(fa) > Math.abs(fb)) {
+                double s = fb / fa;
+                double p;
+                double q;
+                if (a == c) {
+                    p = 2 * m * s; // secant
+                    q = 1 - s;
+                } else {
+                    double r = fb / fc; // inverse quadratic interpolation
+                    double t = fa / fc;
+                    p = s * (2 * m * t * (t - r) - (b - a) * (r - 1));
+                    q = (t - 1) * (r - 1) * (s - 1);
+                }
+                if (p > 0) {
+                    q = -q;
+                } else {
+                    p = -p;
+                }
+                if (2 * p < Math.min(3 * m * q - Math.abs(tol * q), Math.abs(e * q))) {
+                    e = d;
+                    d = p / q;
+                } else {
+                    d = m;
+                    e = m;
+                }
+            } else {
+                d = m;
+                e = m;
+            }
+            a = b;
+            fa = fb;
+            b += Math.abs(d) > tol ? d : Math.copySign(tol, m);
+            fb = f.applyAsDouble(b);
+            evaluations[0]++;
+        }
+        return new double[]{b, Math.abs(c - b)};
+    }
+
+    /**
+     * Secant iteration on one component at full precision, starting from the double root.
+     * {@code step[0]} receives the size of the last correction.
+     */
+    private BigDecimal polish(BigDecimal x, Component pivot, BigDecimal y0, double[] step, int[] evaluations) {
+        BigDecimal delta = BigDecimal.valueOf(Math.max(Math.ulp(y0.doubleValue()) * 64, 1e-300));
+        BigDecimal y1 = y0.add(delta, mc);
+        BigDecimal f0 = pivot.evaluate(x, y0, mc);
+        BigDecimal f1 = pivot.evaluate(x, y1, mc);
+        evaluations[0] += 2;
+        BigDecimal threshold = BigDecimal.ONE.movePointLeft(Math.max(mc.getPrecision() - 2, 1))
+                .multiply(y1.abs().max(BigDecimal.ONE), mc);
+        for (int iter = 0; iter < MAX_POLISH_ITER; iter++) {
+            BigDecimal slope = f1.subtract(f0, mc);
+            if (slope.signum() == 0 || f1.signum() == 0) {
+                break;
+            }
+            BigDecimal correction = f1.multiply(y1.subtract(y0, mc), mc).divide(slope, mc);
+            y0 = y1;
+            f0 = f1;
+            y1 = y1.subtract(correction, mc);
+            f1 = pivot.evaluate(x, y1, mc);
+            evaluations[0]++;
+            step[0] = correction.abs().doubleValue();
+            if (correction.abs().compareTo(threshold) <= 0) {
+                break;
+            }
+        }
+        return y1;
+    }
+
+    /**
+     * Splits a run of chunks in halves down to single chunks, letting idle workers steal
+     * the larger halves. Each result slot is written by exactly one leaf.
+     */
+    private final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final BigDecimal x;
+        private final double from;
+        private final double to;
+        private final long cells;
+        private final long cellsPerChunk;
+        private final int first;
+        private final int end;
+        private final List<OmegaZero>[] results;
+        private final ScanProgressListener listener;
+        private final AtomicInteger completed;
+
+        ChunkTask(BigDecimal x, double from, double to, long cells, long cellsPerChunk, int first, int end,
+                  List<OmegaZero>[] results, ScanProgressListener listener, AtomicInteger completed) {
+            this.x = x;
+            this.from = from;
+            this.to = to;
+            this.cells = cells;
+            this.cellsPerChunk = cellsPerChunk;
+            this.first = first;
+            this.end = end;
+            this.results = results;
+            this.listener = listener;
+            this.completed = completed;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - first > 1) {
+                int mid = (first + end) >>> 1;
+                invokeAll(new ChunkTask(x, from, to, cells, cellsPerChunk, first, mid, results, listener, completed),
+                        new ChunkTask(x, from, to, cells, cellsPerChunk, mid, end, results, listener, completed));
+                return;
+            }
+            long firstCell = first * cellsPerChunk;
+            long endCell = Math.min(firstCell + cellsPerChunk, cells);
+            List<OmegaZero> zeros = new ArrayList<>();
+            scan(x, from, to, firstCell, endCell, zeros::add, false);
+            results[first] = zeros;
+            int done = completed.incrementAndGet();
+            if (listener != null) {
+                listener.chunkCompleted(first, results.length, done, gridPoint(from, to, cells, firstCell),
+                        gridPoint(from, to, cells, endCell), zeros.size());
+            }
+        }
+    }
+
+    private static double scanValue(Component component, BigDecimal x, double y) {
+        return component.evaluate(x, new BigDecimal(y), SCAN).doubleValue();
+    }
+}
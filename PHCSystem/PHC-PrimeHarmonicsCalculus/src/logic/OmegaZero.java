@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package logic;
+
+import util.ComplexUtils;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * A zero of a PHC ζ-like function located by {@link OmegaRootFinder}, together with
+ * the accuracy evidence gathered while refining it.
+ */
+public final class OmegaZero implements Comparable<OmegaZero> {
+
+    private final BigDecimal real;
+    private final BigDecimal imaginary;
+    private final BigDecimal residual;
+    private final double errorEstimate;
+    private final double bracketWidth;
+    private final int evaluations;
+
+    OmegaZero(BigDecimal real, BigDecimal imaginary, BigDecimal residual,
+              double errorEstimate, double bracketWidth, int evaluations) {
+        this.real = real;
+        this.imaginary = imaginary;
+        this.residual = residual;
+        this.errorEstimate = errorEstimate;
+        this.bracketWidth = bracketWidth;
+        this.evaluations = evaluations;
+    }
+
+    public BigDecimal getReal() {
+        return real;
+    }
+
+    public BigDecimal getImaginary() {
+        return imaginary;
+    }
+
+    /**
+     * Returns |f| at the reported point, evaluated at the finder's full MathContext.
+     *
+     * @return modulus residual
+     */
+    public BigDecimal getResidual() {
+        return residual;
+    }
+
+    /**
+     * Returns the size of the last refinement step along the imaginary axis, an
+     * estimate of the distance to the true zero.
+     *
+     * @return estimated absolute error in the imaginary part
+     */
+    public double getErrorEstimate() {
+        return errorEstimate;
+    }
+
+    /**
+     * Returns the width of the sign-change bracket after double-precision refinement.
+     *
+     * @return final bracket width
+     */
+    public double getBracketWidth() {
+        return bracketWidth;
+    }
+
+    /**
+     * Returns the number of function evaluations spent refining and polishing this zero,
+     * excluding the shared scan.
+     *
+     * @return evaluation count
+     */
+    public int getEvaluations() {
+        return evaluations;
+    }
+
+    public ComplexUtils.SurfaceResponse toResponse() {
+        return ComplexUtils.SurfaceResponse.success(real, imaginary);
+    }
+
+    @Override
+    public int compareTo(OmegaZero other) {
+        return imaginary.compareTo(other.imaginary);
+    }
+
+    @Override
+    public String toString() {
+        return "OmegaZero{re=" + real + ", im=" + imaginary + ", residual=" + residual.round(new MathContext(3))
+                + ", error≈" + errorEstimate + ", evaluations=" + evaluations + '}';
+    }
+}
@@ -17,35 +17,42 @@ import java.util.List;
  * OmegaZeroLocator implements numerical methods to locate zero crossings of
  * Prime Harmonics Calculus functions within the Omega complex lattice,
  * simulating critical behavior akin to the Riemann Zeta function's non-trivial zeros.
+ *
+ * <p>Zeros are found by {@link OmegaRootFinder}: a cheap sign scan brackets each zero,
+ * which is then refined and polished to the configured MathContext.
  */
 public class OmegaZeroLocator {
 
-    private static final BigDecimal STEP = new BigDecimal("0.0005");
-    private static final int MAX_ITER = 100000;
+    private static final BigDecimal CRITICAL_LINE = new BigDecimal("0.5");
+    private static final BigDecimal PROJECTION_START = new BigDecimal("0.5");
+    private static final BigDecimal PROJECTION_END = new BigDecimal("100");
     private final Logger logger;
     private final MathContext mc;
+    private final OmegaRootFinder finder;
 
     public OmegaZeroLocator(MathContext mc) {
-        this.mc = mc;
+        this(new OmegaRootFinder(mc));
+    }
+
+    /**
+     * Creates a locator driven by a preconfigured root finder.
+     *
+     * @param finder root finder supplying the function, scan step and precision
+     */
+    public OmegaZeroLocator(OmegaRootFinder finder) {
+        this.mc = finder.getMathContext();
+        this.finder = finder;
         this.logger = new Logger();
         logger.info("OmegaZeroLocator initialized.");
     }
 
     public ComplexUtils.SurfaceResponse locateOmegaProjection(BigDecimal input) {
         try {
-            BigDecimal x = input;
-            BigDecimal y = new BigDecimal("0.5");
-            for (int i = 0; i < MAX_ITER; i++) {
-                BigDecimal real = ComplexUtils.evaluateReZetaLike(x, y, mc);
-                BigDecimal imag = ComplexUtils.evaluateImZetaLike(x, y, mc);
-
-                if (real.abs().compareTo(STEP) < 0 && imag.abs().compareTo(STEP) < 0) {
-                    logger.debug("Zero found at: Re=" + x + ", Im=" + y);
-                    return ComplexUtils.SurfaceResponse.success(x, y);
-                }
-
-                y = y.add(STEP, mc);
-                if (y.compareTo(new BigDecimal("100")) > 0) break; // escape on domain exhaustion
+            OmegaZero zero = finder.firstZero(input, PROJECTION_START, PROJECTION_END);
+            if (zero != null) {
+                logger.debug("Zero found at: Re=" + zero.getReal() + ", Im=" + zero.getImaginary()
+                        + " (residual " + zero.getResidual().round(new MathContext(3)) + ")");
+                return zero.toResponse();
             }
         } catch (Exception e) {
             logger.error("Omega projection failed.", e);
@@ -56,20 +63,67 @@ public class OmegaZeroLocator {
 
     public List<ComplexUtils.SurfaceResponse> scanCriticalLine(BigDecimal start, BigDecimal end) {
         List<ComplexUtils.SurfaceResponse> results = new ArrayList<>();
-        BigDecimal y = start;
-
-        while (y.compareTo(end) <= 0) {
-            BigDecimal real = ComplexUtils.evaluateReZetaLike(new BigDecimal("0.5"), y, mc);
-            BigDecimal imag = ComplexUtils.evaluateImZetaLike(new BigDecimal("0.5"), y, mc);
-
-            if (real.abs().compareTo(STEP) < 0 && imag.abs().compareTo(STEP) < 0) {
-                results.add(ComplexUtils.SurfaceResponse.success(new BigDecimal("0.5"), y));
-                logger.debug("Critical line zero: Im=" + y);
-            }
+        for (OmegaZero zero : locateCriticalZeros(start, end)) {
+            results.add(zero.toResponse());
+            logger.debug("Critical line zero: Im=" + zero.getImaginary());
+        }
+        return results;
+    }
 
-            y = y.add(STEP, mc);
+    /**
+     * Parallel form of {@link #scanCriticalLine(BigDecimal, BigDecimal)}, returning the same
+     * zeros in the same ascending order.
+     *
+     * @param start       lower end of the imaginary range
+     * @param end         upper end of the imaginary range
+     * @param chunkHeight length of the imaginary range searched per task
+     * @param parallelism number of worker threads, at least 1
+     * @param listener    per-chunk progress callback, may be {@code null}
+     * @return zeros as surface responses
+     */
+    public List<ComplexUtils.SurfaceResponse> scanCriticalLine(BigDecimal start, BigDecimal end, BigDecimal chunkHeight,
+                                                               int parallelism, ScanProgressListener listener) {
+        List<ComplexUtils.SurfaceResponse> results = new ArrayList<>();
+        for (OmegaZero zero : finder.findZeros(CRITICAL_LINE, start, end, chunkHeight, parallelism, listener)) {
+            results.add(zero.toResponse());
         }
+        logger.info("Parallel critical line scan found " + results.size() + " zeros.");
+        return results;
+    }
 
+    /**
+     * Locates the zeros of the Riemann zeta function on the critical line with imaginary part
+     * in [start, end] by sign changes of Hardy's Z-function, at O(√t) cost per evaluation.
+     * This is the method of choice at heights where the general evaluator becomes too slow.
+     * The count is checked against Rosser's rule, and a warning is logged if some zeros
+     * could not be separated.
+     *
+     * @param start lower end of the imaginary range
+     * @param end   upper end of the imaginary range
+     * @return zeros as surface responses, in ascending order
+     */
+    public List<ComplexUtils.SurfaceResponse> scanZetaCriticalLine(BigDecimal start, BigDecimal end) {
+        List<ComplexUtils.SurfaceResponse> results = new ArrayList<>();
+        int missing = RiemannSiegel.forEachZero(start.doubleValue(), end.doubleValue(),
+                RiemannSiegel.DEFAULT_SAMPLES_PER_GRAM_INTERVAL,
+                t -> results.add(ComplexUtils.SurfaceResponse.success(CRITICAL_LINE, new BigDecimal(t).round(mc))));
+        if (missing > 0) {
+            logger.warn("Riemann-Siegel scan is incomplete: " + missing + " zeros predicted by Rosser's rule"
+                    + " could not be separated.");
+        }
+        logger.info("Riemann-Siegel scan found " + results.size() + " zeros.");
         return results;
     }
+
+    /**
+     * Returns the zeros on the critical line with imaginary part in [start, end], with
+     * their residuals and error estimates, in ascending order.
+     *
+     * @param start lower end of the imaginary range
+     * @param end   upper end of the imaginary range
+     * @return located zeros
+     */
+    public List<OmegaZero> locateCriticalZeros(BigDecimal start, BigDecimal end) {
+        return finder.findZeros(CRITICAL_LINE, start, end);
+    }
 }
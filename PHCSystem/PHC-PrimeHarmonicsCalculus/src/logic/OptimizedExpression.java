@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2024 Devin B. Royal.
+ * All Rights Reserved.
+ *
+ * OptimizedExpression.java
+ * Simplified expression DAG in evaluation order, with its optimization report.
+ */
+
+package symbolic.logic;
+
+import symbolic.ast.ExpressionNode;
+
+/**
+ * Result of {@link ExpressionOptimizer#optimize(ExpressionNode)}: the simplified expression
+ * as a DAG whose distinct nodes are numbered in post-order. Every node gets one slot, and
+ * {@link #left(int)} and {@link #right(int)} give the slots of its operands, which always
+ * come earlier. Evaluating the slots in order therefore computes each shared subexpression
+ * once. Instances are immutable and may be evaluated by several threads.
+ */
+public final class OptimizedExpression {
+
+    private final ExpressionNode root;
+    private final ExpressionNode[] nodes;
+    private final int[] left;
+    private final int[] right;
+    private final int nodesBefore;
+    private final int foldedConstants;
+    private final int identities;
+    private final int strengthReductions;
+    private final int sharedSubexpressions;
+
+    OptimizedExpression(ExpressionNode root, ExpressionNode[] nodes, int[] left, int[] right, int nodesBefore,
+                        int foldedConstants, int identities, int strengthReductions, int sharedSubexpressions) {
+        this.root = root;
+        this.nodes = nodes;
+        this.left = left;
+        this.right = right;
+        this.nodesBefore = nodesBefore;
+        this.foldedConstants = foldedConstants;
+        this.identities = identities;
+        this.strengthReductions = strengthReductions;
+        this.sharedSubexpressions = sharedSubexpressions;
+    }
+
+    /** Root of the simplified DAG; shared subtrees are the same object. */
+    public ExpressionNode getRoot() {
+        return root;
+    }
+
+    /** Number of slots, i.e. distinct nodes after optimization. */
+    public int size() {
+        return nodes.length;
+    }
+
+    ExpressionNode node(int slot) {
+        return nodes[slot];
+    }
+
+    /** Slot of the left operand or function argument, or -1 for a leaf. */
+    int left(int slot) {
+        return left[slot];
+    }
+
+    /** Slot of the right operand, or -1 if the node is not a binary operation. */
+    int right(int slot) {
+        return right[slot];
+    }
+
+    public int getNodesBefore() {
+        return nodesBefore;
+    }
+
+    public int getNodesAfter() {
+        return nodes.length;
+    }
+
+    public int getFoldedConstants() {
+        return foldedConstants;
+    }
+
+    public int getIdentities() {
+        return identities;
+    }
+
+    public int getStrengthReductions() {
+        return strengthReductions;
+    }
+
+    public int getSharedSubexpressions() {
+        return sharedSubexpressions;
+    }
+
+    /**
+     * Summarizes the pass, for example
+     * {@code "nodes 23 -> 9 (folded 2, identities 1, strength reductions 1, shared 3)"}.
+     */
+    public String getReport() {
+        return String.format("nodes %d -> %d (folded %d, identities %d, strength reductions %d, shared %d)",
+                nodesBefore, nodes.length, foldedConstants, identities, strengthReductions, sharedSubexpressions);
+    }
+
+    @Override
+    public String toString() {
+        return root + " [" + getReport() + "]";
+    }
+}
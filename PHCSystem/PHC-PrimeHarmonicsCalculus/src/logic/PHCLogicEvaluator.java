@@ -13,24 +13,223 @@ import symbolic.ast.OperationType;
 import symbolic.util.ComplexUtils;
 import symbolic.log.Logger;
 
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 public final class PHCLogicEvaluator {
 
+    /** Number of evaluations of the same tree after which it is compiled. */
+    public static final int DEFAULT_JIT_THRESHOLD = 1000;
+
     private final Map<String, Double> variableScope;
+    private final Map<ExpressionNode, HotExpression> hotExpressions;
+    private final Map<ExpressionNode, Double> memo;
+    private final int jitThreshold;
+    private long scopeVersion;
+    private long memoVersion;
+    private long memoHits;
+    private long memoMisses;
 
     public PHCLogicEvaluator() {
+        this(DEFAULT_JIT_THRESHOLD);
+    }
+
+    /**
+     * @param jitThreshold evaluations of one tree before it is compiled; 0 disables compilation
+     */
+    public PHCLogicEvaluator(int jitThreshold) {
+        this(jitThreshold, false);
+    }
+
+    /**
+     * @param jitThreshold evaluations of one tree before it is compiled; 0 disables compilation
+     * @param memoize      remember the value of every operation and function node until the
+     *                     next assignment. Nodes are keyed by identity, so this pays off for
+     *                     trees interned by an {@link symbolic.ast.ExpressionNodeFactory},
+     *                     where a subtree shared by many propositions is computed once.
+     */
+    public PHCLogicEvaluator(int jitThreshold, boolean memoize) {
         this.variableScope = new HashMap<>();
+        this.hotExpressions = new WeakHashMap<>();
+        this.memo = memoize ? new WeakHashMap<>() : null;
+        this.jitThreshold = jitThreshold;
     }
 
     public void assignVariable(String variable, double value) {
         variableScope.put(variable, value);
+        scopeVersion++;
         Logger.info("Assigned variable " + variable + " = " + value);
     }
 
+    /**
+     * Evaluates a tree. Trees evaluated more than the JIT threshold are compiled by
+     * {@link ExpressionJit} and run as a MethodHandle. A tree the JIT cannot compile stays
+     * on the interpreter, and so does any evaluation whose compiled run throws, so results
+     * and errors are always the interpreter's. With memoization on, a node evaluated since
+     * the last assignment returns its remembered value; failures are never remembered.
+     */
     public double evaluate(ExpressionNode node) throws ArithmeticException {
+        Double cached = recall(node);
+        if (cached != null) {
+            return cached;
+        }
+        return remember(node, dispatch(node));
+    }
+
+    private double dispatch(ExpressionNode node) throws ArithmeticException {
+        if (jitThreshold <= 0 || node.isLiteral() || node.isVariable()) {
+            return walk(node);
+        }
+        HotExpression hot = hotExpressions.get(node);
+        if (hot == null) {
+            hot = new HotExpression();
+            hotExpressions.put(node, hot);
+        }
+        if (hot.handle == null) {
+            if (hot.unsupported || ++hot.calls < jitThreshold) {
+                return walk(node);
+            }
+            compile(node, hot);
+            if (hot.unsupported) {
+                return walk(node);
+            }
+        }
+        if (hot.version != scopeVersion && !hot.bind()) {
+            return walk(node); // an unbound variable: let the interpreter report it
+        }
+        try {
+            return (double) hot.handle.invokeExact(hot.slots);
+        } catch (ArithmeticException e) {
+            return walk(node); // re-run so the interpreter reports the failure it would have met first
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Compiled expression failed: " + node, t);
+        }
+    }
+
+    /**
+     * Evaluates a tree over many bindings at once: row i binds each variable to
+     * {@code columns.get(name)[i]}. Variables without a column use their scalar assignment.
+     * The tree is evaluated column by column in cache-sized blocks, in parallel for large
+     * inputs. Each row gets the same value the scalar evaluator would compute.
+     *
+     * @param node    expression tree
+     * @param columns one array per variable, each at least {@code out.length} long
+     * @param out     receives one result per row
+     * @throws ArithmeticException if any row fails as the scalar evaluator would
+     */
+    public void evaluateBatch(ExpressionNode node, Map<String, double[]> columns, double[] out) throws ArithmeticException {
+        BatchEvaluator.compile(node, columns, variableScope, out.length).evaluate(out);
+    }
+
+    /**
+     * Evaluates an expression prepared by {@link ExpressionOptimizer}. Its nodes are run in
+     * slot order, so a subexpression shared by several parents is computed once per call.
+     *
+     * @param expression optimized expression
+     * @return value of the expression
+     * @throws ArithmeticException as {@link #evaluate(ExpressionNode)} would for the original tree
+     */
+    public double evaluate(OptimizedExpression expression) throws ArithmeticException {
+        double[] values = new double[expression.size()];
+        for (int i = 0; i < values.length; i++) {
+            ExpressionNode node = expression.node(i);
+            int left = expression.left(i);
+            if (node.isOperation()) {
+                values[i] = applyOperation(node.getOperation(), values[left], values[expression.right(i)]);
+            } else if (node.isFunctionCall() && left >= 0) {
+                values[i] = applyFunction(node.getVariableName(), values[left]);
+            } else {
+                values[i] = interpret(node); // a leaf, or a call the interpreter rejects
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private void compile(ExpressionNode node, HotExpression hot) {
+        try {
+            List<String> names = new ArrayList<>();
+            hot.handle = ExpressionJit.compile(node, names);
+            hot.names = names.toArray(new String[0]);
+            hot.slots = new double[names.size()];
+            hot.version = scopeVersion - 1;
+            Logger.info("Compiled hot expression after " + hot.calls + " evaluations: " + node);
+        } catch (RuntimeException e) {
+            hot.unsupported = true;
+            Logger.info("Expression stays interpreted (" + e.getMessage() + "): " + node);
+        }
+    }
+
+    /** JIT state of one tree: its call count and, once compiled, the handle and variable slots. */
+    private final class HotExpression {
+        int calls;
+        boolean unsupported;
+        MethodHandle handle;
+        String[] names;
+        double[] slots;
+        long version;
+
+        /** Copies the current variable values into the slots; false if one is unbound. */
+        boolean bind() {
+            for (int i = 0; i < names.length; i++) {
+                Double value = variableScope.get(names[i]);
+                if (value == null) {
+                    return false;
+                }
+                slots[i] = value;
+            }
+            version = scopeVersion;
+            return true;
+        }
+    }
+
+    /** Memoized value of an operation or function node for the current scope, or null. */
+    private Double recall(ExpressionNode node) {
+        if (memo == null || node.isLiteral() || node.isVariable()) {
+            return null;
+        }
+        if (memoVersion != scopeVersion) {
+            memo.clear();
+            memoVersion = scopeVersion;
+        }
+        Double cached = memo.get(node);
+        if (cached != null) {
+            memoHits++;
+        } else {
+            memoMisses++;
+        }
+        return cached;
+    }
+
+    private double remember(ExpressionNode node, double value) {
+        if (memo != null && !node.isLiteral() && !node.isVariable()) {
+            memo.put(node, value);
+        }
+        return value;
+    }
+
+    public long getMemoHits() {
+        return memoHits;
+    }
+
+    public long getMemoMisses() {
+        return memoMisses;
+    }
+
+    private double interpret(ExpressionNode node) throws ArithmeticException {
+        Double cached = recall(node);
+        if (cached != null) {
+            return cached;
+        }
+        return remember(node, walk(node));
+    }
+
+    private double walk(ExpressionNode node) throws ArithmeticException {
         if (node.isLiteral()) return node.getLiteralValue();
 
         if (node.isVariable()) {
@@ -43,8 +242,8 @@ public final class PHCLogicEvaluator {
         }
 
         if (node.isOperation()) {
-            double leftVal = evaluate(node.getLeft());
-            double rightVal = evaluate(node.getRight());
+            double leftVal = interpret(node.getLeft());
+            double rightVal = interpret(node.getRight());
             return applyOperation(node.getOperation(), leftVal, rightVal);
         }
 
@@ -55,7 +254,7 @@ public final class PHCLogicEvaluator {
         throw new ArithmeticException("Unsupported node structure: " + node);
     }
 
-    private double applyOperation(OperationType op, double left, double right) {
+    static double applyOperation(OperationType op, double left, double right) {
         return switch (op) {
             case ADD -> left + right;
             case SUB -> left - right;
@@ -70,30 +269,42 @@ public final class PHCLogicEvaluator {
 
     private double evaluateFunction(String name, List<ExpressionNode> args) {
         try {
-            return switch (name.toLowerCase()) {
-                case "sin" -> Math.sin(evaluate(args.get(0)));
-                case "cos" -> Math.cos(evaluate(args.get(0)));
-                case "tan" -> Math.tan(evaluate(args.get(0)));
-                case "exp" -> Math.exp(evaluate(args.get(0)));
-                case "log" -> {
-                    double val = evaluate(args.get(0));
-                    if (val <= 0) throw new ArithmeticException("log domain error");
-                    yield Math.log(val);
-                }
-                case "sqrt" -> {
-                    double val = evaluate(args.get(0));
-                    if (val < 0) throw new ArithmeticException("sqrt domain error");
-                    yield Math.sqrt(val);
-                }
-                case "abs" -> Math.abs(evaluate(args.get(0)));
-                case "primeharm" -> ComplexUtils.phcKernel(evaluate(args.get(0)));
-                default -> throw new UnsupportedOperationException("Unknown function: " + name);
-            };
+            if (!isBuiltinFunction(name)) {
+                throw new UnsupportedOperationException("Unknown function: " + name);
+            }
+            return applyFunction(name, interpret(args.get(0)));
         } catch (IndexOutOfBoundsException e) {
             throw new ArithmeticException("Insufficient arguments for function: " + name);
         }
     }
 
+    static boolean isBuiltinFunction(String name) {
+        return switch (name.toLowerCase()) {
+            case "sin", "cos", "tan", "exp", "log", "sqrt", "abs", "primeharm" -> true;
+            default -> false;
+        };
+    }
+
+    static double applyFunction(String name, double val) {
+        return switch (name.toLowerCase()) {
+            case "sin" -> Math.sin(val);
+            case "cos" -> Math.cos(val);
+            case "tan" -> Math.tan(val);
+            case "exp" -> Math.exp(val);
+            case "log" -> {
+                if (val <= 0) throw new ArithmeticException("log domain error");
+                yield Math.log(val);
+            }
+            case "sqrt" -> {
+                if (val < 0) throw new ArithmeticException("sqrt domain error");
+                yield Math.sqrt(val);
+            }
+            case "abs" -> Math.abs(val);
+            case "primeharm" -> ComplexUtils.phcKernel(val);
+            default -> throw new UnsupportedOperationException("Unknown function: " + name);
+        };
+    }
+
     public boolean isTrue(ExpressionNode proposition) {
         try {
             double val = evaluate(proposition);
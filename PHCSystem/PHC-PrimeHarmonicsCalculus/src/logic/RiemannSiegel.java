@@ -0,0 +1,464 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package logic;
+
+import util.ComplexUtils;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Riemann–Siegel evaluation of Hardy's Z-function, Z(t) = e^{iθ(t)} ζ(1/2 + it), which is
+ * real for real t and vanishes exactly at the zeros of ζ on the critical line.
+ *
+ * <p>Z(t) = 2 Σ_{n ≤ N} n^{-1/2} cos(θ(t) - t ln n) + R(t), with N = ⌊√(t/2π)⌋, costs
+ * O(√t) per point instead of the O(t) terms of a direct series. The remainder R is the
+ * Riemann–Siegel expansion through C4. The coefficient functions C0..C4 are expressed as
+ * power series in z = 2p - 1, where p is the fractional part of √(t/2π). They are built
+ * once, at class load, from the entire function
+ * Ψ(p) = cos(2π(p² - p - 1/16)) / cos(2πp) using high-precision series arithmetic.
+ *
+ * <p>The truncation error is about 3e-6 near t = 15, 4e-8 at t = 100 and 3e-11 at
+ * t = 1000, shrinking like t^(-13/4). Below {@value #MIN_HEIGHT} the expansion is not used;
+ * the first zero of ζ on the critical line lies near t = 14.1347.
+ */
+public final class RiemannSiegel {
+
+    /** Smallest height at which Z is evaluated; scans start no lower than this. */
+    public static final double MIN_HEIGHT = 10.0;
+
+    /** Default number of sign samples per Gram interval when searching for zeros. */
+    public static final int DEFAULT_SAMPLES_PER_GRAM_INTERVAL = 8;
+
+    /** Densest sampling used to separate the zeros of a Gram block. */
+    public static final int MAX_SAMPLES_PER_GRAM_INTERVAL = 4096;
+
+    /** Longest run of bad Gram points treated as one block; longer runs are not verified. */
+    private static final int MAX_GRAM_BLOCK = 64;
+
+    private static final double TWO_PI = 2 * Math.PI;
+    private static final int SERIES_TERMS = 160;
+    private static final MathContext SERIES_MC = new MathContext(120);
+    private static final BigDecimal PI_120 = new BigDecimal(
+            "3.14159265358979323846264338327950288419716939937510582097494459230781640628620899862803482534211706798");
+
+    /** Power-series coefficients of C0..C4 in z = 2p - 1, lowest order first. */
+    private static final double[][] C = coefficientTables();
+
+    private RiemannSiegel() {
+        throw new UnsupportedOperationException("RiemannSiegel is a static utility class.");
+    }
+
+    /**
+     * Riemann–Siegel theta function θ(t) = arg Γ(1/4 + it/2) - (t/2) ln π, by its
+     * asymptotic Stirling expansion.
+     *
+     * @param t height, at least {@value #MIN_HEIGHT} for full accuracy
+     * @return θ(t)
+     */
+    public static double theta(double t) {
+        double inv = 1.0 / t;
+        double inv2 = inv * inv;
+        double series = inv * (1.0 / 48 + inv2 * (7.0 / 5760 + inv2 * (31.0 / 80640 + inv2 * (127.0 / 430080))));
+        return t / 2 * Math.log(t / TWO_PI) - t / 2 - Math.PI / 8 + series;
+    }
+
+    /**
+     * Evaluates Hardy's Z-function.
+     *
+     * @param t height, at least {@value #MIN_HEIGHT}
+     * @return Z(t)
+     */
+    public static double z(double t) {
+        if (!(t >= MIN_HEIGHT)) {
+            throw new IllegalArgumentException("Riemann-Siegel evaluation requires t >= " + MIN_HEIGHT + ".");
+        }
+        double root = Math.sqrt(t / TWO_PI);
+        int n = (int) root;
+        double th = theta(t);
+        double sum = 0.0;
+        for (int k = 1; k <= n; k++) {
+            double phase = (th - t * Math.log(k)) % TWO_PI;
+            sum += Math.cos(phase) / Math.sqrt(k);
+        }
+        return 2 * sum + remainder(root - n, n, t);
+    }
+
+    /**
+     * Riemann–Siegel remainder (-1)^(N-1) (t/2π)^(-1/4) Σ_k C_k(p) (t/2π)^(-k/2).
+     */
+    private static double remainder(double p, int n, double t) {
+        double z = 2 * p - 1;
+        double w = Math.sqrt(TWO_PI / t); // (t/2π)^(-1/2)
+        double total = 0.0;
+        double scale = 1.0;
+        for (double[] coefficients : C) {
+            total += scale * horner(coefficients, z);
+            scale *= w;
+        }
+        double sign = (n - 1) % 2 == 0 ? 1.0 : -1.0;
+        return sign * Math.sqrt(w) * total;
+    }
+
+    private static double horner(double[] coefficients, double z) {
+        double value = 0.0;
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            value = value * z + coefficients[i];
+        }
+        return value;
+    }
+
+    /**
+     * Returns the Gram point g_n, the unique t &gt; 7 with θ(t) = nπ, for n &ge; -1.
+     *
+     * @param n Gram index
+     * @return g_n
+     */
+    public static double gramPoint(long n) {
+        if (n < -1) {
+            throw new IllegalArgumentException("Gram points are defined here for n >= -1.");
+        }
+        double target = n * Math.PI;
+        double t = Math.max(MIN_HEIGHT, TWO_PI * Math.E * Math.max(1.0, (n + 1.125) / Math.log(Math.max(Math.E, n + 1.125))));
+        for (int iter = 0; iter < 100; iter++) {
+            double step = (theta(t) - target) / (0.5 * Math.log(t / TWO_PI));
+            t -= step;
+            if (Math.abs(step) <= 4 * Math.ulp(t)) {
+                break;
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Returns the index of the last Gram point at or below {@code t}.
+     *
+     * @param t height, at least {@value #MIN_HEIGHT}
+     * @return ⌊θ(t) / π⌋
+     */
+    public static long gramIndex(double t) {
+        return (long) Math.floor(theta(t) / Math.PI);
+    }
+
+    /**
+     * Returns the Gram points within [from, to] in ascending order.
+     *
+     * @param from lower bound
+     * @param to   upper bound
+     * @return Gram points
+     */
+    public static double[] gramPoints(double from, double to) {
+        double low = Math.max(from, MIN_HEIGHT);
+        if (!(to >= low)) {
+            return new double[0];
+        }
+        long first = gramIndex(low);
+        long last = gramIndex(to);
+        double[] points = new double[(int) Math.max(0, last - first + 1)];
+        int count = 0;
+        for (long n = first; n <= last; n++) {
+            double g = gramPoint(n);
+            if (g >= low && g <= to) {
+                points[count++] = g;
+            }
+        }
+        return Arrays.copyOf(points, count);
+    }
+
+    /**
+     * Streams the heights of the zeros of Z in [from, to] to {@code sink}, in ascending order,
+     * and checks the count against Rosser's rule.
+     *
+     * <p>The range is covered by Gram blocks: runs of Gram intervals between consecutive good
+     * Gram points g_n, those with (-1)^n Z(g_n) &gt; 0. By Rosser's rule a block of k intervals
+     * holds exactly k zeros; the rule has no exception below t ≈ 6.8 million. Each interval
+     * is sampled at {@code samplesPerGramInterval} points, every sign change is refined by
+     * Brent's method, and a block with fewer sign changes than intervals is resampled at
+     * twice the density, up to {@value #MAX_SAMPLES_PER_GRAM_INTERVAL} samples per interval.
+     * This separates close pairs such as the Lehmer pair near t = 7005.06. Blocks at the ends
+     * of the range are scanned whole, but only zeros within [from, to] are reported.
+     *
+     * @param from                   lower bound, raised to {@value #MIN_HEIGHT} if smaller
+     * @param to                     upper bound
+     * @param samplesPerGramInterval initial sign samples per Gram interval, at least 1
+     * @param sink                   receives each zero height
+     * @return number of zeros predicted by Rosser's rule that could not be separated; 0 when
+     *         the reported list is complete
+     */
+    public static int forEachZero(double from, double to, int samplesPerGramInterval, DoubleConsumer sink) {
+        if (samplesPerGramInterval < 1) {
+            throw new IllegalArgumentException("At least one sample per Gram interval is required.");
+        }
+        double low = Math.max(from, MIN_HEIGHT);
+        if (!(to >= low)) {
+            return 0;
+        }
+        long first = gramIndex(low);
+        while (first > -1 && !isGoodGramPoint(first)) {
+            first--;
+        }
+        int missing = 0;
+        double blockStart = gramPoint(first);
+        while (blockStart <= to) {
+            long last = first + 1;
+            while (last - first < MAX_GRAM_BLOCK && !isGoodGramPoint(last)) {
+                last++;
+            }
+            double[] grams = new double[(int) (last - first + 1)];
+            for (int i = 0; i < grams.length; i++) {
+                grams[i] = gramPoint(first + i);
+            }
+            grams[0] = Math.max(grams[0], MIN_HEIGHT); // Z has no zero below 14.13, so clipping g_-1 is harmless
+            boolean verified = isGoodGramPoint(last);
+            missing += scanGramBlock(grams, samplesPerGramInterval, verified, low, to, sink);
+            first = last;
+            blockStart = grams[grams.length - 1];
+        }
+        return missing;
+    }
+
+    /** True for a good Gram point, (-1)^n Z(g_n) &gt; 0; g_-1 ≈ 9.67 is good as Z &lt; 0 below 14.13. */
+    private static boolean isGoodGramPoint(long n) {
+        if (n == -1) {
+            return true;
+        }
+        double value = z(gramPoint(n));
+        return n % 2 == 0 ? value > 0 : value < 0;
+    }
+
+    /**
+     * Finds the zeros of one Gram block, resampling until the block holds one zero per
+     * interval, and reports those within [low, high].
+     *
+     * @return number of zeros still unseparated, 0 if {@code verified} is false
+     */
+    private static int scanGramBlock(double[] grams, int samples, boolean verified, double low, double high,
+                                     DoubleConsumer sink) {
+        int intervals = grams.length - 1;
+        double[] points = new double[intervals * samples + 1];
+        double[] values = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = samplePoint(grams, samples, i);
+            values[i] = z(points[i]);
+        }
+        while (verified && countZeros(values) < intervals && samples < MAX_SAMPLES_PER_GRAM_INTERVAL) {
+            samples *= 2; // keep the old samples at the even positions
+            double[] finerPoints = new double[intervals * samples + 1];
+            double[] finerValues = new double[finerPoints.length];
+            for (int i = 0; i < finerPoints.length; i++) {
+                if (i % 2 == 0) {
+                    finerPoints[i] = points[i / 2];
+                    finerValues[i] = values[i / 2];
+                } else {
+                    finerPoints[i] = samplePoint(grams, samples, i);
+                    finerValues[i] = z(finerPoints[i]);
+                }
+            }
+            points = finerPoints;
+            values = finerValues;
+        }
+        int found = 0;
+        for (int i = 0; i < points.length; i++) {
+            double root = Double.NaN;
+            if (values[i] == 0.0) {
+                root = points[i];
+            } else if (i > 0 && values[i - 1] != 0.0 && Math.signum(values[i - 1]) != Math.signum(values[i])) {
+                root = OmegaRootFinder.brent(RiemannSiegel::z, points[i - 1], points[i], values[i - 1], values[i],
+                        new int[1])[0];
+            }
+            if (!Double.isNaN(root)) {
+                found++;
+                if (root >= low && root <= high) {
+                    sink.accept(root);
+                }
+            }
+        }
+        return verified ? Math.max(0, intervals - found) : 0;
+    }
+
+    private static double samplePoint(double[] grams, int samples, int index) {
+        int interval = index / samples;
+        int step = index % samples;
+        if (interval == grams.length - 1) {
+            return grams[interval];
+        }
+        return step == 0 ? grams[interval]
+                : grams[interval] + step * (grams[interval + 1] - grams[interval]) / samples;
+    }
+
+    private static int countZeros(double[] values) {
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == 0.0) {
+                count++;
+            } else if (i > 0 && values[i - 1] != 0.0 && Math.signum(values[i - 1]) != Math.signum(values[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the heights of the zeros of Z in [from, to], with the default sampling density.
+     * The list is complete as checked by Rosser's rule; use {@link #forEachZero} to receive
+     * the zeros of a range that cannot be fully resolved.
+     *
+     * @param from lower bound
+     * @param to   upper bound
+     * @return ascending zero heights
+     * @throws IllegalStateException if some zeros predicted by Rosser's rule could not be separated
+     */
+    public static double[] zeros(double from, double to) {
+        double[][] buffer = {new double[16]};
+        int[] count = {0};
+        int missing = forEachZero(from, to, DEFAULT_SAMPLES_PER_GRAM_INTERVAL, t -> {
+            if (count[0] == buffer[0].length) {
+                buffer[0] = Arrays.copyOf(buffer[0], count[0] * 2);
+            }
+            buffer[0][count[0]++] = t;
+        });
+        if (missing > 0) {
+            throw new IllegalStateException(missing + " zeros near [" + from + ", " + to + "] could not be separated.");
+        }
+        return Arrays.copyOf(buffer[0], count[0]);
+    }
+
+    /**
+     * Compares |Z(t)| with the modulus reported by the general {@link ComplexUtils} evaluator
+     * at 1/2 + it. Useful at low heights, where the general evaluator is still affordable.
+     *
+     * @param t  height, at least {@value #MIN_HEIGHT}
+     * @param mc precision passed to the general evaluator
+     * @return absolute difference of the two moduli
+     */
+    public static double crossCheck(double t, MathContext mc) {
+        BigDecimal modulus = ComplexUtils.evaluateZetaModulus(new BigDecimal("0.5"), new BigDecimal(t), mc);
+        return Math.abs(Math.abs(z(t)) - modulus.doubleValue());
+    }
+
+    /**
+     * Builds the series of C0..C4 in z from Ψ(z) = -cos(πz²/2 - 5π/8) / cos(πz), which is
+     * Ψ(p) rewritten with p = (1 + z)/2, using d/dp = 2 d/dz:
+     * C0 = Ψ, C1 = -Ψ'''/(96π²), C2 = Ψ''/(64π²) + Ψ⁽⁶⁾/(18432π⁴),
+     * C3 = -Ψ'/(64π²) - Ψ⁽⁵⁾/(3840π⁴) - Ψ⁽⁹⁾/(5308416π⁶),
+     * C4 = Ψ/(128π²) + 19Ψ⁽⁴⁾/(24576π⁴) + 11Ψ⁽⁸⁾/(5898240π⁶) + Ψ⁽¹²⁾/(2038431744π⁸).
+     */
+    private static double[][] coefficientTables() {
+        MathContext mc = SERIES_MC;
+        BigDecimal a = PI_120.divide(BigDecimal.valueOf(2), mc);
+        BigDecimal b = PI_120.multiply(BigDecimal.valueOf(-5), mc).divide(BigDecimal.valueOf(8), mc);
+        BigDecimal cosB = cos(b, mc);
+        BigDecimal sinB = cos(b.subtract(a, mc), mc); // sin b = cos(b - π/2)
+
+        // numerator cos(a z² + b) = Σ_k (a z²)^k / k! · cos(b + kπ/2)
+        BigDecimal[] numerator = new BigDecimal[SERIES_TERMS];
+        BigDecimal[] denominator = new BigDecimal[SERIES_TERMS];
+        Arrays.fill(numerator, BigDecimal.ZERO);
+        Arrays.fill(denominator, BigDecimal.ZERO);
+        BigDecimal term = BigDecimal.ONE;
+        for (int k = 0; 2 * k < SERIES_TERMS; k++) {
+            BigDecimal phase;
+            switch (k % 4) {
+                case 0: phase = cosB; break;
+                case 1: phase = sinB.negate(); break;
+                case 2: phase = cosB.negate(); break;
+                default: phase = sinB; break;
+            }
+            numerator[2 * k] = term.multiply(phase, mc);
+            term = term.multiply(a, mc).divide(BigDecimal.valueOf(k + 1), mc);
+        }
+        // denominator -cos(πz) = -Σ_m (-1)^m (πz)^(2m) / (2m)!
+        BigDecimal piSquared = PI_120.multiply(PI_120, mc);
+        term = BigDecimal.ONE.negate();
+        for (int m = 0; 2 * m < SERIES_TERMS; m++) {
+            denominator[2 * m] = term;
+            term = term.negate().multiply(piSquared, mc)
+                    .divide(BigDecimal.valueOf((2L * m + 1) * (2L * m + 2)), mc);
+        }
+        BigDecimal[] psi = new BigDecimal[SERIES_TERMS];
+        for (int j = 0; j < SERIES_TERMS; j++) {
+            BigDecimal acc = numerator[j];
+            for (int k = 1; k <= j; k++) {
+                if (denominator[k].signum() != 0) {
+                    acc = acc.subtract(denominator[k].multiply(psi[j - k], mc), mc);
+                }
+            }
+            psi[j] = acc.divide(denominator[0], mc);
+        }
+
+        double pi2 = Math.PI * Math.PI;
+        double pi4 = pi2 * pi2;
+        double pi6 = pi4 * pi2;
+        double pi8 = pi4 * pi4;
+        double[][] tables = new double[5][];
+        tables[0] = derivative(psi, 0);
+        tables[1] = combine(new double[][]{derivative(psi, 3)}, new double[]{-1 / (96 * pi2)});
+        tables[2] = combine(new double[][]{derivative(psi, 2), derivative(psi, 6)},
+                new double[]{1 / (64 * pi2), 1 / (18432 * pi4)});
+        tables[3] = combine(new double[][]{derivative(psi, 1), derivative(psi, 5), derivative(psi, 9)},
+                new double[]{-1 / (64 * pi2), -1 / (3840 * pi4), -1 / (5308416 * pi6)});
+        tables[4] = combine(new double[][]{derivative(psi, 0), derivative(psi, 4), derivative(psi, 8), derivative(psi, 12)},
+                new double[]{1 / (128 * pi2), 19 / (24576 * pi4), 11 / (5898240 * pi6), 1 / (2038431744 * pi8)});
+        for (int i = 0; i < tables.length; i++) {
+            tables[i] = trim(tables[i]);
+        }
+        return tables;
+    }
+
+    /**
+     * Series of the k-th p-derivative of Ψ: 2^k Σ_j c_j j!/(j-k)! z^(j-k).
+     */
+    private static double[] derivative(BigDecimal[] psi, int k) {
+        double[] out = new double[psi.length - k];
+        for (int j = k; j < psi.length; j++) {
+            BigDecimal c = psi[j];
+            for (int i = 0; i < k; i++) {
+                c = c.multiply(BigDecimal.valueOf(2L * (j - i)));
+            }
+            out[j - k] = c.doubleValue();
+        }
+        return out;
+    }
+
+    private static double[] combine(double[][] series, double[] weights) {
+        int length = Integer.MAX_VALUE;
+        for (double[] s : series) {
+            length = Math.min(length, s.length);
+        }
+        double[] out = new double[length];
+        for (int i = 0; i < series.length; i++) {
+            for (int j = 0; j < length; j++) {
+                out[j] += weights[i] * series[i][j];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Drops trailing coefficients too small to affect a double for |z| &le; 1.
+     */
+    private static double[] trim(double[] coefficients) {
+        int end = coefficients.length;
+        while (end > 1 && Math.abs(coefficients[end - 1]) < 1e-24) {
+            end--;
+        }
+        return Arrays.copyOf(coefficients, end);
+    }
+
+    private static BigDecimal cos(BigDecimal x, MathContext mc) {
+        BigDecimal x2 = x.multiply(x, mc);
+        BigDecimal term = BigDecimal.ONE;
+        BigDecimal sum = BigDecimal.ONE;
+        BigDecimal epsilon = BigDecimal.ONE.movePointLeft(mc.getPrecision() + 2);
+        for (int k = 1; term.abs().compareTo(epsilon) > 0; k++) {
+            term = term.negate().multiply(x2, mc).divide(BigDecimal.valueOf((2L * k - 1) * (2L * k)), mc);
+            sum = sum.add(term, mc);
+        }
+        return sum;
+    }
+}
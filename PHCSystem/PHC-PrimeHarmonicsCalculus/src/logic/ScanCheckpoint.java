@@ -0,0 +1,345 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package logic;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only checkpoint file of a {@link CriticalLineScan}: the scan parameters, the
+ * position reached and every zero found so far.
+ *
+ * <p>File layout (big-endian):
+ * <pre>
+ *    0  commit slot A            64 bytes
+ *   64  commit slot B            64 bytes
+ *  128  parameter block length   int
+ *  132  parameter block          method, precision, scan step, start, end, chunk height,
+ *                                root tolerance
+ *       zero records             scale int, length byte, unscaled value bytes
+ * </pre>
+ * A commit slot holds magic "PHCZSCAN", format version, sequence number, next chunk,
+ * zero count, committed file length and a CRC32C of the slot. Zero records are appended
+ * and forced to disk first; the commit then overwrites the older of the two slots with a
+ * higher sequence number. A torn slot write fails its checksum, so readers always find
+ * the last complete commit and ignore any records past its committed length.
+ */
+public final class ScanCheckpoint implements Closeable {
+
+    /** Current on-disk format version. */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte[] MAGIC = "PHCZSCAN".getBytes(StandardCharsets.US_ASCII);
+    private static final int SLOT_BYTES = 64;
+    private static final int SLOT_CHECKED_BYTES = 44;
+    private static final int PARAMETERS_OFFSET = 2 * SLOT_BYTES;
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final CriticalLineScan.Method method;
+    private final int precision;
+    private final double scanStep;
+    private final BigDecimal start;
+    private final BigDecimal end;
+    private final BigDecimal chunkHeight;
+    private final BigDecimal tolerance;
+    private final ByteBuffer pending = ByteBuffer.allocate(BUFFER_BYTES);
+
+    private long sequence;
+    private long nextChunk;
+    private long zeroCount;
+    private long committedZeros;
+    private long committedLength;
+    private long writePosition;
+
+    private ScanCheckpoint(Path path, FileChannel channel, CriticalLineScan.Method method, int precision,
+                           double scanStep, BigDecimal start, BigDecimal end, BigDecimal chunkHeight,
+                           BigDecimal tolerance) {
+        this.path = path;
+        this.channel = channel;
+        this.method = method;
+        this.precision = precision;
+        this.scanStep = scanStep;
+        this.start = start;
+        this.end = end;
+        this.chunkHeight = chunkHeight;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Creates a new checkpoint file, replacing any existing one, positioned at chunk 0.
+     *
+     * @return the open checkpoint
+     * @throws IOException if the file cannot be written
+     */
+    static ScanCheckpoint create(Path path, CriticalLineScan.Method method, int precision, double scanStep,
+                                 BigDecimal start, BigDecimal end, BigDecimal chunkHeight,
+                                 BigDecimal tolerance) throws IOException {
+        Path absolute = path.toAbsolutePath();
+        if (absolute.getParent() != null) {
+            Files.createDirectories(absolute.getParent());
+        }
+        FileChannel channel = FileChannel.open(absolute, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(method.ordinal());
+            out.writeInt(precision);
+            out.writeDouble(scanStep);
+            out.writeUTF(start.toString());
+            out.writeUTF(end.toString());
+            out.writeUTF(chunkHeight.toString());
+            out.writeUTF(tolerance.toString());
+            out.flush();
+            ByteBuffer block = ByteBuffer.allocate(PARAMETERS_OFFSET + Integer.BYTES + bytes.size());
+            block.position(PARAMETERS_OFFSET);
+            block.putInt(bytes.size()).put(bytes.toByteArray()).flip();
+            channel.write(block, 0);
+
+            ScanCheckpoint checkpoint = new ScanCheckpoint(absolute, channel, method, precision, scanStep,
+                    start, end, chunkHeight, tolerance);
+            checkpoint.committedLength = block.limit();
+            checkpoint.writePosition = block.limit();
+            checkpoint.commit(0);
+            return checkpoint;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reopens a checkpoint at its last complete commit, discarding uncommitted records.
+     *
+     * @param path checkpoint file
+     * @return the open checkpoint
+     * @throws IOException if the file cannot be read or holds no valid commit
+     */
+    public static ScanCheckpoint open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer slots = ByteBuffer.allocate(2 * SLOT_BYTES);
+            readFully(channel, slots, 0);
+            ByteBuffer best = null;
+            for (int s = 0; s < 2; s++) {
+                ByteBuffer slot = ByteBuffer.wrap(slots.array(), s * SLOT_BYTES, SLOT_BYTES).slice();
+                if (validSlot(slot) && (best == null || slot.getLong(12) > best.getLong(12))) {
+                    best = slot;
+                }
+            }
+            if (best == null) {
+                throw new IOException("No complete checkpoint commit in " + path + ".");
+            }
+
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            readFully(channel, length, PARAMETERS_OFFSET);
+            ByteBuffer block = ByteBuffer.allocate(length.getInt(0));
+            readFully(channel, block, PARAMETERS_OFFSET + Integer.BYTES);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(block.array()));
+            CriticalLineScan.Method method = CriticalLineScan.Method.values()[in.readInt()];
+            int precision = in.readInt();
+            double scanStep = in.readDouble();
+            BigDecimal start = new BigDecimal(in.readUTF());
+            BigDecimal end = new BigDecimal(in.readUTF());
+            BigDecimal chunkHeight = new BigDecimal(in.readUTF());
+            BigDecimal tolerance = new BigDecimal(in.readUTF());
+
+            ScanCheckpoint checkpoint = new ScanCheckpoint(path.toAbsolutePath(), channel, method, precision,
+                    scanStep, start, end, chunkHeight, tolerance);
+            checkpoint.sequence = best.getLong(12);
+            checkpoint.nextChunk = best.getLong(20);
+            checkpoint.zeroCount = best.getLong(28);
+            checkpoint.committedZeros = checkpoint.zeroCount;
+            checkpoint.committedLength = best.getLong(36);
+            checkpoint.writePosition = checkpoint.committedLength;
+            channel.truncate(checkpoint.committedLength);
+            return checkpoint;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Queues a zero for the next commit.
+     *
+     * @param height imaginary part of the zero
+     * @throws IOException if buffered records cannot be written
+     */
+    void append(BigDecimal height) throws IOException {
+        byte[] unscaled = height.unscaledValue().toByteArray();
+        if (unscaled.length > 255) {
+            throw new IllegalArgumentException("Zero height has too many digits to record.");
+        }
+        int size = Integer.BYTES + 1 + unscaled.length;
+        if (pending.remaining() < size) {
+            flushPending();
+        }
+        pending.putInt(height.scale()).put((byte) unscaled.length).put(unscaled);
+        zeroCount++;
+    }
+
+    /**
+     * Durably records that every chunk before {@code chunk} has been scanned, together with
+     * all zeros appended so far.
+     *
+     * @param chunk index of the first chunk not yet scanned
+     * @throws IOException if the commit cannot be written
+     */
+    void commit(long chunk) throws IOException {
+        flushPending();
+        channel.force(false);
+
+        sequence++;
+        ByteBuffer slot = ByteBuffer.allocate(SLOT_BYTES);
+        slot.put(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(sequence)
+                .putLong(chunk)
+                .putLong(zeroCount)
+                .putLong(writePosition);
+        CRC32C crc = new CRC32C();
+        crc.update(slot.array(), 0, SLOT_CHECKED_BYTES);
+        slot.putInt((int) crc.getValue());
+        slot.rewind();
+        channel.write(slot, (sequence & 1L) * SLOT_BYTES);
+        channel.force(true);
+
+        nextChunk = chunk;
+        committedZeros = zeroCount;
+        committedLength = writePosition;
+    }
+
+    private void flushPending() throws IOException {
+        pending.flip();
+        while (pending.hasRemaining()) {
+            writePosition += channel.write(pending, writePosition);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Streams every committed zero in ascending order, without loading them all at once.
+     *
+     * @param sink receives each zero height
+     * @throws IOException if the file cannot be read
+     */
+    public void forEachZero(Consumer<BigDecimal> sink) throws IOException {
+        long position = recordsOffset();
+        FileChannel reader = FileChannel.open(path, StandardOpenOption.READ);
+        try (InputStream stream = Channels.newInputStream(reader.position(position))) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(stream, BUFFER_BYTES));
+            for (long i = 0; i < committedZeros; i++) {
+                int scale = in.readInt();
+                byte[] unscaled = new byte[in.readUnsignedByte()];
+                in.readFully(unscaled);
+                sink.accept(new BigDecimal(new BigInteger(unscaled), scale));
+            }
+        }
+    }
+
+    private long recordsOffset() throws IOException {
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        readFully(channel, length, PARAMETERS_OFFSET);
+        return PARAMETERS_OFFSET + Integer.BYTES + length.getInt(0);
+    }
+
+    private static boolean validSlot(ByteBuffer slot) {
+        byte[] magic = new byte[MAGIC.length];
+        slot.get(0, magic, 0, magic.length);
+        if (!Arrays.equals(magic, MAGIC) || slot.getInt(8) != FORMAT_VERSION) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        byte[] payload = new byte[SLOT_CHECKED_BYTES];
+        slot.get(0, payload, 0, payload.length);
+        crc.update(payload);
+        return slot.getInt(SLOT_CHECKED_BYTES) == (int) crc.getValue();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Checkpoint file is truncated.");
+            }
+        }
+        buffer.flip();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public CriticalLineScan.Method getMethod() {
+        return method;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public double getScanStep() {
+        return scanStep;
+    }
+
+    public BigDecimal getStart() {
+        return start;
+    }
+
+    public BigDecimal getEnd() {
+        return end;
+    }
+
+    public BigDecimal getChunkHeight() {
+        return chunkHeight;
+    }
+
+    /** @return tolerance of the root finder that wrote the file */
+    public BigDecimal getTolerance() {
+        return tolerance;
+    }
+
+    /** @return index of the first chunk not covered by the last commit */
+    public long getNextChunk() {
+        return nextChunk;
+    }
+
+    /** @return zeros recorded, including any appended since the last commit */
+    public long getZeroCount() {
+        return zeroCount;
+    }
+
+    /**
+     * Closes the file. Zeros appended since the last commit are discarded.
+     *
+     * @throws IOException if the channel cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package logic;
+
+/**
+ * Receives per-chunk progress from a partitioned zero scan. Chunks finish in any order
+ * and callbacks arrive on worker threads, so implementations must be thread-safe.
+ */
+@FunctionalInterface
+public interface ScanProgressListener {
+
+    /**
+     * Called once a chunk of the scan has been fully searched.
+     *
+     * @param chunkIndex      index of the finished chunk, in ascending order of height
+     * @param chunkCount      total number of chunks in the scan
+     * @param completedChunks number of chunks finished so far, including this one
+     * @param from            lower imaginary bound of the chunk
+     * @param to              upper imaginary bound of the chunk
+     * @param zerosFound      zeros found in the chunk
+     */
+    void chunkCompleted(int chunkIndex, int chunkCount, int completedChunks, double from, double to, int zerosFound);
+}
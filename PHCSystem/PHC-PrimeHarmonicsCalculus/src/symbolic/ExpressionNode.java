@@ -18,6 +18,7 @@ public final class ExpressionNode {
     private final String variableName;
     private final Double numericValue;
     private final boolean isFunctionCall;
+    private final int structuralHash;
 
     // Numeric literal
     public ExpressionNode(double value) {
@@ -28,6 +29,7 @@ public final class ExpressionNode {
         this.variableName = null;
         this.numericValue = value;
         this.isFunctionCall = false;
+        this.structuralHash = Double.hashCode(value);
     }
 
     // Variable
@@ -39,6 +41,7 @@ public final class ExpressionNode {
         this.variableName = variableName;
         this.numericValue = null;
         this.isFunctionCall = false;
+        this.structuralHash = 31 + Objects.hashCode(variableName);
     }
 
     // Binary Operation
@@ -50,6 +53,7 @@ public final class ExpressionNode {
         this.variableName = null;
         this.numericValue = null;
         this.isFunctionCall = false;
+        this.structuralHash = ((62 + Objects.hashCode(operation)) * 31 + hashOf(left)) * 31 + hashOf(right);
     }
 
     // Function Call
@@ -61,6 +65,17 @@ public final class ExpressionNode {
         this.variableName = functionName;
         this.numericValue = null;
         this.isFunctionCall = true;
+        int hash = 93 + Objects.hashCode(functionName);
+        if (args != null) {
+            for (ExpressionNode arg : args) {
+                hash = hash * 31 + hashOf(arg);
+            }
+        }
+        this.structuralHash = hash;
+    }
+
+    private static int hashOf(ExpressionNode node) {
+        return node == null ? 0 : node.structuralHash;
     }
 
     public boolean isLiteral() {
@@ -103,6 +118,15 @@ public final class ExpressionNode {
         return arguments;
     }
 
+    /**
+     * Hash of the node's structure, computed once at construction from the children's hashes.
+     * Structurally equal trees have equal hashes; see {@link ExpressionNodeFactory}. A function
+     * call's hash reflects its argument list as it was when the node was created.
+     */
+    public int structuralHash() {
+        return structuralHash;
+    }
+
     @Override
     public String toString() {
         if (isLiteral()) return String.valueOf(numericValue);
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2024 Devin B. Royal.
+ * All Rights Reserved.
+ *
+ * ExpressionNodeFactory.java
+ * Hash-consing factory that shares structurally identical ExpressionNode subtrees.
+ */
+
+package symbolic.ast;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Creates ExpressionNodes through a concurrent intern table, so that structurally identical
+ * trees built through the same factory are the same object. Children are interned first,
+ * which makes the comparison of a candidate with a table entry shallow: node kind, operator,
+ * literal bits or name, and child identity. Node hashes are precomputed by
+ * {@link ExpressionNode#structuralHash()}.
+ *
+ * <p>Interned trees can be compared with {@code ==} and used as identity keys, which is what
+ * lets {@code PHCLogicEvaluator} memoize results per node. Literals are compared by their bit
+ * patterns, so {@code 0.0} and {@code -0.0} stay distinct. The table holds every node it has
+ * seen until {@link #clear()}; share one factory across a proposition suite and drop it with
+ * the suite. Instances are thread-safe.
+ */
+public final class ExpressionNodeFactory {
+
+    private final ConcurrentHashMap<Shape, ExpressionNode> table = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    public ExpressionNode literal(double value) {
+        return canonical(new ExpressionNode(value));
+    }
+
+    public ExpressionNode variable(String name) {
+        return canonical(new ExpressionNode(name));
+    }
+
+    public ExpressionNode operation(OperationType operation, ExpressionNode left, ExpressionNode right) {
+        return canonical(new ExpressionNode(operation, intern(left), intern(right)));
+    }
+
+    public ExpressionNode function(String name, List<ExpressionNode> args) {
+        List<ExpressionNode> canonicalArgs = new ArrayList<>(args.size());
+        for (ExpressionNode arg : args) {
+            canonicalArgs.add(intern(arg));
+        }
+        return canonical(new ExpressionNode(name, List.copyOf(canonicalArgs)));
+    }
+
+    /**
+     * Returns the canonical copy of an existing tree, interning it bottom-up. A tree that is
+     * already canonical is returned as is after one lookup, without counting as a request.
+     *
+     * @param node tree from any source, or {@code null}
+     * @return canonical tree, or {@code null}
+     */
+    public ExpressionNode intern(ExpressionNode node) {
+        if (node == null) {
+            return null;
+        }
+        if (table.get(new Shape(node)) == node) {
+            return node; // already canonical; not counted as a request
+        }
+        if (node.isLiteral() || node.isVariable()) {
+            return canonical(node);
+        }
+        if (node.isOperation()) {
+            return operation(node.getOperation(), node.getLeft(), node.getRight());
+        }
+        if (node.isFunctionCall() && node.getArguments() != null) {
+            return function(node.getVariableName(), node.getArguments());
+        }
+        return node; // nothing to share in a malformed node
+    }
+
+    private ExpressionNode canonical(ExpressionNode candidate) {
+        requests.increment();
+        ExpressionNode existing = table.putIfAbsent(new Shape(candidate), candidate);
+        if (existing != null) {
+            hits.increment();
+            return existing;
+        }
+        return candidate;
+    }
+
+    /** Number of distinct nodes in the table. */
+    public int size() {
+        return table.size();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /** Fraction of node requests answered by an existing node, 0 before the first request. */
+    public double getHitRate() {
+        long total = requests.sum();
+        return total == 0 ? 0 : hits.sum() / (double) total;
+    }
+
+    /** Empties the table; nodes handed out before stay valid but are no longer shared with new ones. */
+    public void clear() {
+        table.clear();
+        requests.reset();
+        hits.reset();
+    }
+
+    public String stats() {
+        return String.format("nodes=%d, requests=%d, hits=%d, hit rate=%.1f%%",
+                size(), getRequests(), getHits(), 100 * getHitRate());
+    }
+
+    /** Table key: a node compared by its own fields and the identity of its children. */
+    private static final class Shape {
+        private final ExpressionNode node;
+
+        Shape(ExpressionNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public int hashCode() {
+            return node.structuralHash();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Shape shape)) {
+                return false;
+            }
+            ExpressionNode a = node;
+            ExpressionNode b = shape.node;
+            if (a == b) {
+                return true;
+            }
+            if (a.structuralHash() != b.structuralHash() || a.isFunctionCall() != b.isFunctionCall()) {
+                return false;
+            }
+            if (a.isLiteral() || b.isLiteral()) {
+                return a.isLiteral() && b.isLiteral()
+                        && Double.doubleToLongBits(a.getLiteralValue()) == Double.doubleToLongBits(b.getLiteralValue());
+            }
+            if (a.isOperation() || b.isOperation()) {
+                return a.getOperation() == b.getOperation() && a.getLeft() == b.getLeft() && a.getRight() == b.getRight();
+            }
+            if (!Objects.equals(a.getVariableName(), b.getVariableName())) {
+                return false;
+            }
+            if (!a.isFunctionCall()) {
+                return true;
+            }
+            List<ExpressionNode> argsA = a.getArguments();
+            List<ExpressionNode> argsB = b.getArguments();
+            if (argsA == null || argsB == null || argsA.size() != argsB.size()) {
+                return false;
+            }
+            for (int i = 0; i < argsA.size(); i++) {
+                if (argsA.get(i) != argsB.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -9,16 +9,39 @@
 
 package symbolic;
 
+import core.EvaluationCache;
 import core.PrimeField;
 import java.util.*;
 import java.util.regex.*;
 
 public final class PHCSymbolicEngine {
 
+    private static final int FIELD_CACHE_CAPACITY = 4096;
+
     private final PrimeField field;
+    private final EvaluationCache fieldCache;
 
     public PHCSymbolicEngine(PrimeField field) {
         this.field = field;
+        this.fieldCache = new EvaluationCache(FIELD_CACHE_CAPACITY);
+    }
+
+    /**
+     * Ω(t) through this engine's own cache of field evaluations; the shared cache holds
+     * ζ-like values, not field values. Only repeated values of t are served: a derivative
+     * at t evaluates t ± h, which hit only when those exact points were asked for before.
+     */
+    private double[] omegaAt(double t) {
+        return fieldCache.valueAt(t, field::computeFieldAt);
+    }
+
+    /**
+     * Returns hit/miss statistics of this engine's field evaluation cache.
+     *
+     * @return cache statistics
+     */
+    public EvaluationCache.Stats getCacheStats() {
+        return fieldCache.stats();
     }
 
     /**
@@ -56,7 +79,7 @@ public final class PHCSymbolicEngine {
         Matcher matcher = Pattern.compile("Omega\\(([-+]?[0-9]*\\.?[0-9]+)\\)", Pattern.CASE_INSENSITIVE).matcher(expr);
         if (matcher.find()) {
             double t = Double.parseDouble(matcher.group(1));
-            double[] complex = field.computeFieldAt(t);
+            double[] complex = omegaAt(t);
             return String.format("Ω(%.5f) ≈ %.10f + %.10fi", t, complex[0], complex[1]);
         }
         return "Malformed Omega(t)";
@@ -70,8 +93,8 @@ public final class PHCSymbolicEngine {
         if (matcher.find()) {
             double t = Double.parseDouble(matcher.group(1));
             double h = 1e-5;
-            double[] f1 = field.computeFieldAt(t + h);
-            double[] f0 = field.computeFieldAt(t - h);
+            double[] f1 = omegaAt(t + h);
+            double[] f0 = omegaAt(t - h);
             double dx = (f1[0] - f0[0]) / (2 * h);
             double dy = (f1[1] - f0[1]) / (2 * h);
             return String.format("dΩ/dt(%.5f) ≈ %.10f + %.10fi", t, dx, dy);
@@ -87,8 +110,8 @@ public final class PHCSymbolicEngine {
         if (matcher.find()) {
             double t = Double.parseDouble(matcher.group(1));
             double h = Double.parseDouble(matcher.group(2));
-            double[] f0 = field.computeFieldAt(t);
-            double[] f1 = field.computeFieldAt(t + h);
+            double[] f0 = omegaAt(t);
+            double[] f1 = omegaAt(t + h);
             double dx = f1[0] - f0[0];
             double dy = f1[1] - f0[1];
             return String.format("ΔΩ(%.5f, %.5f) ≈ %.10f + %.10fi", t, h, dx, dy);
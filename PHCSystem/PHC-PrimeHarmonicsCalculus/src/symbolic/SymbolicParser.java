@@ -9,6 +9,7 @@
 package symbolic;
 
 import symbolic.ast.ExpressionNode;
+import symbolic.ast.ExpressionNodeFactory;
 import symbolic.ast.OperationType;
 
 import java.util.*;
@@ -17,6 +18,20 @@ public final class SymbolicParser {
 
     private static final Set<String> OPERATORS = Set.of("+", "-", "*", "/", "^");
 
+    private final ExpressionNodeFactory factory;
+
+    public SymbolicParser() {
+        this(null);
+    }
+
+    /**
+     * @param factory interns every parsed node, so trees parsed through the same factory share
+     *                identical subtrees; {@code null} creates fresh nodes
+     */
+    public SymbolicParser(ExpressionNodeFactory factory) {
+        this.factory = factory;
+    }
+
     public ExpressionNode parse(String input) throws IllegalArgumentException {
         try {
             Queue<String> tokens = tokenize(input);
@@ -62,7 +77,7 @@ public final class SymbolicParser {
             if ("+".equals(op) || "-".equals(op)) {
                 tokens.poll();
                 ExpressionNode right = parseMultiplication(tokens);
-                node = new ExpressionNode(OperationType.fromSymbol(op), node, right);
+                node = operation(OperationType.fromSymbol(op), node, right);
             } else {
                 break;
             }
@@ -71,13 +86,13 @@ public final class SymbolicParser {
     }
 
     private ExpressionNode parseMultiplication(Queue<String> tokens) {
-        ExpressionNode node = parseFactor(tokens);
+        ExpressionNode node = parsePower(tokens);
         while (!tokens.isEmpty()) {
             String op = tokens.peek();
             if ("*".equals(op) || "/".equals(op)) {
                 tokens.poll();
-                ExpressionNode right = parseFactor(tokens);
-                node = new ExpressionNode(OperationType.fromSymbol(op), node, right);
+                ExpressionNode right = parsePower(tokens);
+                node = operation(OperationType.fromSymbol(op), node, right);
             } else {
                 break;
             }
@@ -85,6 +100,16 @@ public final class SymbolicParser {
         return node;
     }
 
+    // '^' binds tighter than '*' and '/', and is right-associative: a^b^c = a^(b^c)
+    private ExpressionNode parsePower(Queue<String> tokens) {
+        ExpressionNode base = parseFactor(tokens);
+        if ("^".equals(tokens.peek())) {
+            tokens.poll();
+            return operation(OperationType.POW, base, parsePower(tokens));
+        }
+        return base;
+    }
+
     private ExpressionNode parseFactor(Queue<String> tokens) {
         String token = tokens.poll();
         if (token == null) throw new IllegalArgumentException("Unexpected end of expression.");
@@ -98,11 +123,11 @@ public final class SymbolicParser {
         }
 
         if (isNumber(token)) {
-            return new ExpressionNode(Double.parseDouble(token));
+            return factory == null ? new ExpressionNode(Double.parseDouble(token)) : factory.literal(Double.parseDouble(token));
         }
 
         if (isVariable(token)) {
-            return new ExpressionNode(token);
+            return factory == null ? new ExpressionNode(token) : factory.variable(token);
         }
 
         if (isFunction(token)) {
@@ -121,12 +146,16 @@ public final class SymbolicParser {
                     throw new IllegalArgumentException("Malformed function argument list.");
                 }
             }
-            return new ExpressionNode(token, args);
+            return factory == null ? new ExpressionNode(token, args) : factory.function(token, args);
         }
 
         throw new IllegalArgumentException("Unrecognized token: " + token);
     }
 
+    private ExpressionNode operation(OperationType op, ExpressionNode left, ExpressionNode right) {
+        return factory == null ? new ExpressionNode(op, left, right) : factory.operation(op, left, right);
+    }
+
     private boolean isNumber(String s) {
         return s.matches("[-+]?[0-9]*\\.?[0-9]+");
     }
@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package visual;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Samples the modulus surface on an adaptively refined mesh instead of at every pixel.
+ *
+ * <p>Each tile is covered by square cells of {@link #getCellSize()} pixels, and the modulus
+ * is evaluated at every cell corner and centre. A cell is accepted when bilinear
+ * interpolation of its corners predicts the centre to within the tolerance, the corner
+ * spread stays below the gradient limit, and no corner falls below the low-modulus
+ * threshold. An accepted cell's remaining pixels are interpolated. Any other cell is split
+ * into quadrants, recursively, until every pixel is an evaluated corner. Smooth regions
+ * therefore cost a few evaluations per cell, and neighbourhoods of zeros are sampled at
+ * full resolution.
+ *
+ * <p>The default tolerance of 0.02 keeps interpolated pixels within about one level of
+ * the palette's fastest channel, which changes by 48 levels per unit of modulus.
+ */
+public final class AdaptiveSurfaceSampler {
+
+    public static final int DEFAULT_CELL_SIZE = 16;
+    public static final double DEFAULT_TOLERANCE = 0.02;
+    public static final double DEFAULT_GRADIENT_LIMIT = 1.0;
+    public static final double DEFAULT_LOW_MODULUS = 0.5;
+
+    private final SurfaceExporter.Modulus modulus;
+    private final int cellSize;
+    private final double tolerance;
+    private final double gradientLimit;
+    private final double lowModulus;
+    private final LongAdder evaluations = new LongAdder();
+
+    public AdaptiveSurfaceSampler(SurfaceExporter.Modulus modulus) {
+        this(modulus, DEFAULT_CELL_SIZE, DEFAULT_TOLERANCE, DEFAULT_GRADIENT_LIMIT, DEFAULT_LOW_MODULUS);
+    }
+
+    /**
+     * @param modulus       modulus function
+     * @param cellSize      edge of the coarse cells in pixels, at least 2
+     * @param tolerance     largest accepted interpolation error at a cell centre
+     * @param gradientLimit largest accepted modulus spread across a cell's corners
+     * @param lowModulus    cells with a corner below this modulus are always refined
+     */
+    public AdaptiveSurfaceSampler(SurfaceExporter.Modulus modulus, int cellSize, double tolerance,
+                                  double gradientLimit, double lowModulus) {
+        if (cellSize < 2) {
+            throw new IllegalArgumentException("Cell size must be at least 2.");
+        }
+        if (!(tolerance > 0) || !(gradientLimit > 0)) {
+            throw new IllegalArgumentException("Tolerance and gradient limit must be positive.");
+        }
+        this.modulus = modulus;
+        this.cellSize = cellSize;
+        this.tolerance = tolerance;
+        this.gradientLimit = gradientLimit;
+        this.lowModulus = lowModulus;
+    }
+
+    /**
+     * Returns a tile function that samples {@code window} adaptively and writes palette
+     * colours, for use with {@link TiledSurfaceRenderer}.
+     *
+     * @param window region and resolution of the image being rendered
+     * @param grid   receives the modulus of every pixel in row-major order, or {@code null}
+     * @return tile function for an image of the window's size
+     */
+    public TiledSurfaceRenderer.TileFunction tiles(PlaneWindow window, float[] grid) {
+        if (grid != null && grid.length != window.getPixelCount()) {
+            throw new IllegalArgumentException("Grid must hold " + window.getPixelCount() + " samples.");
+        }
+        BigDecimal[] re = window.realAxis(SurfaceExporter.MC);
+        BigDecimal[] im = window.imaginaryAxis(SurfaceExporter.MC);
+        return (x, y, width, height, pixels, offset, scanline) -> {
+            float[] samples = new Tile(re, im, x, y, width, height).sample();
+            for (int row = 0; row < height; row++) {
+                for (int column = 0; column < width; column++) {
+                    float modulus = samples[row * (width + 1) + column];
+                    pixels[offset + row * scanline + column] = SurfaceExporter.colorOf(modulus);
+                    if (grid != null) {
+                        grid[(y + row) * re.length + x + column] = modulus;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the number of modulus evaluations made so far, across all renders.
+     *
+     * @return evaluation count
+     */
+    public long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Returns the refinement settings as text, for keying stored renders.
+     */
+    String describeSettings() {
+        return "cell=" + cellSize + ",tolerance=" + tolerance + ",gradient=" + gradientLimit + ",low=" + lowModulus;
+    }
+
+    /**
+     * Samples one tile. The local grid has one extra row and column so cells on the tile's
+     * far edge can use the neighbouring tile's first pixels as corners; at the image edge
+     * the last pixel row or column is the boundary instead.
+     */
+    private final class Tile {
+        private final BigDecimal[] re;
+        private final BigDecimal[] im;
+        private final int x0;
+        private final int y0;
+        private final int stride;
+        private final float[] samples;
+        private final boolean[] exact;
+
+        Tile(BigDecimal[] re, BigDecimal[] im, int x0, int y0, int width, int height) {
+            this.re = re;
+            this.im = im;
+            this.x0 = x0;
+            this.y0 = y0;
+            this.stride = width + 1;
+            this.samples = new float[stride * (height + 1)];
+            this.exact = new boolean[samples.length];
+            Arrays.fill(samples, Float.NaN);
+        }
+
+        float[] sample() {
+            int width = stride - 1;
+            int height = samples.length / stride - 1;
+            int right = Math.min(width, re.length - 1 - x0);
+            int bottom = Math.min(height, im.length - 1 - y0);
+            if (right == 0 || bottom == 0) {
+                for (int y = 0; y <= bottom; y++) { // a single pixel column or row at the image edge
+                    for (int x = 0; x <= right; x++) {
+                        evaluate(x, y);
+                    }
+                }
+                return samples;
+            }
+            for (int y = 0; y < bottom; y += cellSize) {
+                for (int x = 0; x < right; x += cellSize) {
+                    refine(x, y, Math.min(x + cellSize, right), Math.min(y + cellSize, bottom));
+                }
+            }
+            return samples;
+        }
+
+        private void refine(int xa, int ya, int xb, int yb) {
+            float a = evaluate(xa, ya);
+            float b = evaluate(xb, ya);
+            float c = evaluate(xa, yb);
+            float d = evaluate(xb, yb);
+            if (xb - xa <= 1 && yb - ya <= 1) {
+                return;
+            }
+            int xm = (xa + xb) >>> 1;
+            int ym = (ya + yb) >>> 1;
+            float centre = evaluate(xm, ym);
+            float min = Math.min(Math.min(a, b), Math.min(c, d));
+            float max = Math.max(Math.max(a, b), Math.max(c, d));
+            double predicted = bilinear(a, b, c, d, (xm - xa) / (double) (xb - xa), (ym - ya) / (double) (yb - ya));
+            boolean smooth = min >= lowModulus && max - min <= gradientLimit
+                    && Math.abs(centre - predicted) <= tolerance;
+            if (smooth) {
+                fill(xa, ya, xb, yb, a, b, c, d);
+                return;
+            }
+            int[] xs = xb - xa > 1 ? new int[]{xa, xm, xb} : new int[]{xa, xb};
+            int[] ys = yb - ya > 1 ? new int[]{ya, ym, yb} : new int[]{ya, yb};
+            for (int j = 0; j + 1 < ys.length; j++) {
+                for (int i = 0; i + 1 < xs.length; i++) {
+                    refine(xs[i], ys[j], xs[i + 1], ys[j + 1]);
+                }
+            }
+        }
+
+        private void fill(int xa, int ya, int xb, int yb, float a, float b, float c, float d) {
+            for (int y = ya; y <= yb; y++) {
+                double v = (y - ya) / (double) (yb - ya);
+                for (int x = xa; x <= xb; x++) {
+                    int index = y * stride + x;
+                    if (!exact[index]) {
+                        samples[index] = (float) bilinear(a, b, c, d, (x - xa) / (double) (xb - xa), v);
+                    }
+                }
+            }
+        }
+
+        private float evaluate(int x, int y) {
+            int index = y * stride + x;
+            if (!exact[index]) {
+                evaluations.increment();
+                samples[index] = modulus.at(re[x0 + x], im[y0 + y]).floatValue();
+                exact[index] = true;
+            }
+            return samples[index];
+        }
+    }
+
+    private static double bilinear(float a, float b, float c, float d, double u, double v) {
+        return (a + (b - a) * u) * (1 - v) + (c + (d - c) * u) * v;
+    }
+}
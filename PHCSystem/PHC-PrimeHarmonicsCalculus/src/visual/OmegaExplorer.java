@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package visual;
+
+import util.Logger;
+
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import javax.swing.*;
+
+/**
+ * Interactive, zoomable view of the Omega surface backed by a {@link SurfaceTilePyramid}.
+ * The mouse wheel zooms around the cursor and dragging pans.
+ *
+ * <p>View coordinates are measured in level-0 pixels, so the whole base window spans
+ * {@link SurfaceTilePyramid#TILE_PIXELS} units along each axis. Each paint picks the
+ * shallowest level whose tiles are at least as fine as the screen. Visible tiles are
+ * requested from the pyramid, and a ring of neighbouring tiles plus the parent level are
+ * prefetched. A tile that is still loading is drawn from the closest ancestor in memory,
+ * upscaled, so zooming never shows blank regions once the coarse levels exist.
+ */
+public class OmegaExplorer extends JPanel {
+
+    private static final double ZOOM_STEP = 1.25;
+
+    private final SurfaceTilePyramid pyramid;
+    private final Logger logger;
+    private double scale;
+    private double originX;
+    private double originY;
+
+    public OmegaExplorer(SurfaceTilePyramid pyramid) {
+        this.pyramid = pyramid;
+        this.logger = new Logger();
+        this.scale = PlaneWindow.DEFAULT.getWidth() / (double) SurfaceTilePyramid.TILE_PIXELS;
+        this.setPreferredSize(new Dimension(PlaneWindow.DEFAULT.getWidth(), PlaneWindow.DEFAULT.getHeight()));
+        this.setBackground(Color.DARK_GRAY);
+
+        MouseAdapter navigation = new MouseAdapter() {
+            private Point dragStart;
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragStart = e.getPoint();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (dragStart != null) {
+                    pan(dragStart.x - e.getX(), dragStart.y - e.getY());
+                    dragStart = e.getPoint();
+                }
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoom(Math.pow(ZOOM_STEP, -e.getPreciseWheelRotation()), e.getX(), e.getY());
+            }
+        };
+        addMouseListener(navigation);
+        addMouseMotionListener(navigation);
+        addMouseWheelListener(navigation);
+    }
+
+    /**
+     * Moves the view by a number of screen pixels.
+     *
+     * @param dx horizontal shift
+     * @param dy vertical shift
+     */
+    public void pan(double dx, double dy) {
+        originX += dx / scale;
+        originY += dy / scale;
+        repaint();
+    }
+
+    /**
+     * Zooms by {@code factor} keeping the plane point under screen position (x, y) fixed.
+     *
+     * @param factor magnification, above 1 to zoom in
+     * @param x      screen column of the zoom centre
+     * @param y      screen row of the zoom centre
+     */
+    public void zoom(double factor, double x, double y) {
+        double maxScale = Math.pow(2, TileKey.MAX_LEVEL);
+        double next = Math.max(Math.min(scale * factor, maxScale), 1.0 / SurfaceTilePyramid.TILE_PIXELS);
+        originX += x / scale - x / next;
+        originY += y / scale - y / next;
+        scale = next;
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        int level = (int) Math.max(0, Math.min(TileKey.MAX_LEVEL, Math.ceil(Math.log(scale) / Math.log(2) - 1e-9)));
+        long side = TileKey.tilesPerSide(level);
+        double tileWorld = SurfaceTilePyramid.TILE_PIXELS / (double) side;
+
+        long firstX = Math.max(0, (long) Math.floor(originX / tileWorld));
+        long firstY = Math.max(0, (long) Math.floor(originY / tileWorld));
+        long lastX = Math.min(side - 1, (long) Math.floor((originX + getWidth() / scale) / tileWorld));
+        long lastY = Math.min(side - 1, (long) Math.floor((originY + getHeight() / scale) / tileWorld));
+
+        for (long ty = firstY; ty <= lastY; ty++) {
+            for (long tx = firstX; tx <= lastX; tx++) {
+                TileKey key = new TileKey(level, tx, ty);
+                int x0 = (int) Math.floor((tx * tileWorld - originX) * scale);
+                int y0 = (int) Math.floor((ty * tileWorld - originY) * scale);
+                int x1 = (int) Math.floor(((tx + 1) * tileWorld - originX) * scale);
+                int y1 = (int) Math.floor(((ty + 1) * tileWorld - originY) * scale);
+                drawTile(g, key, x0, y0, x1, y1);
+            }
+        }
+
+        for (long ty = firstY - 1; ty <= lastY + 1; ty++) {
+            for (long tx = firstX - 1; tx <= lastX + 1; tx++) {
+                if (tx < firstX || tx > lastX || ty < firstY || ty > lastY) {
+                    prefetch(level, tx, ty);
+                }
+            }
+        }
+        if (level > 0) {
+            for (long ty = firstY >> 1; ty <= lastY >> 1; ty++) {
+                for (long tx = firstX >> 1; tx <= lastX >> 1; tx++) {
+                    prefetch(level - 1, tx, ty);
+                }
+            }
+        }
+    }
+
+    private void drawTile(Graphics g, TileKey key, int x0, int y0, int x1, int y1) {
+        BufferedImage image = pyramid.getIfPresent(key);
+        if (image != null) {
+            g.drawImage(image, x0, y0, x1, y1, 0, 0, image.getWidth(), image.getHeight(), null);
+            return;
+        }
+        pyramid.request(key).thenRun(this::repaint);
+        for (int up = 1; up <= key.getLevel(); up++) {
+            int size = SurfaceTilePyramid.TILE_PIXELS >> up;
+            if (size == 0) {
+                break;
+            }
+            BufferedImage ancestor = pyramid.getIfPresent(key.ancestor(up));
+            if (ancestor != null) {
+                long mask = (1L << up) - 1;
+                int sx = (int) (key.getX() & mask) * size;
+                int sy = (int) (key.getY() & mask) * size;
+                g.drawImage(ancestor, x0, y0, x1, y1, sx, sy, sx + size, sy + size, null);
+                return;
+            }
+        }
+    }
+
+    private void prefetch(int level, long tx, long ty) {
+        long side = TileKey.tilesPerSide(level);
+        if (tx >= 0 && ty >= 0 && tx < side && ty < side) {
+            pyramid.prefetch(new TileKey(level, tx, ty));
+        }
+    }
+
+    @Override
+    public void removeNotify() {
+        logger.info("Tile pyramid: " + pyramid.stats());
+        super.removeNotify();
+    }
+
+    /**
+     * Opens the explorer window on the event dispatch thread.
+     *
+     * @param pyramid tile source
+     */
+    public static void exploreFrame(SurfaceTilePyramid pyramid) {
+        SwingUtilities.invokeLater(() -> {
+            JFrame frame = new JFrame("PHC: Omega Surface Explorer");
+            frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+            frame.add(new OmegaExplorer(pyramid));
+            frame.pack();
+            frame.setVisible(true);
+        });
+    }
+}
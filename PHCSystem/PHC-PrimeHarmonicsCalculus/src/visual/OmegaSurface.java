@@ -5,65 +5,95 @@
 
 package visual;
 
-import util.ComplexUtils;
+import core.EvaluationCache;
 import util.Logger;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import javax.swing.*;
 import java.math.BigDecimal;
-import java.math.MathContext;
 
 /**
  * OmegaSurface generates and visualizes the modulus of a PHC ζ-like function
  * across the complex plane, revealing omega-structured zero fields.
+ *
+ * <p>The surface is computed by a {@link TiledSurfaceRenderer} off the event dispatch
+ * thread and appears tile by tile as workers finish.
  */
 public class OmegaSurface extends JPanel {
 
-    private static final int WIDTH = 800;
-    private static final int HEIGHT = 800;
-    private static final BigDecimal RE_START = new BigDecimal("0.0");
-    private static final BigDecimal RE_END = new BigDecimal("1.0");
-    private static final BigDecimal IM_START = new BigDecimal("0.0");
-    private static final BigDecimal IM_END = new BigDecimal("50.0");
-    private static final int RESOLUTION = 800;
-    private static final MathContext MC = new MathContext(40);
-
     private final Logger logger;
-    private BufferedImage image;
+    private final SurfaceExporter.Modulus modulus;
+    private final TiledSurfaceRenderer renderer;
+    private final PlaneWindow window;
+    private final AdaptiveSurfaceSampler sampler;
+    private final BufferedImage image;
+    private final BigDecimal[] realAxis;
+    private final BigDecimal[] imaginaryAxis;
+    private TiledSurfaceRenderer.Render render;
 
+    /**
+     * Creates the panel with a blank image; call {@link #render()} to compute the surface.
+     */
     public OmegaSurface() {
-        this.logger = new Logger();
-        this.setPreferredSize(new Dimension(WIDTH, HEIGHT));
-        generateSurface();
+        this(PlaneWindow.DEFAULT, new TiledSurfaceRenderer());
     }
 
-    private void generateSurface() {
-        logger.info("Generating Omega Surface...");
-        image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
-
-        for (int x = 0; x < RESOLUTION; x++) {
-            for (int y = 0; y < RESOLUTION; y++) {
-                BigDecimal re = RE_START.add(
-                        RE_END.subtract(RE_START, MC)
-                                .multiply(BigDecimal.valueOf(x).divide(BigDecimal.valueOf(RESOLUTION), MC), MC), MC);
+    public OmegaSurface(PlaneWindow window, TiledSurfaceRenderer renderer) {
+        this(window, renderer, false);
+    }
 
-                BigDecimal im = IM_START.add(
-                        IM_END.subtract(IM_START, MC)
-                                .multiply(BigDecimal.valueOf(y).divide(BigDecimal.valueOf(RESOLUTION), MC), MC), MC);
+    /**
+     * @param window   region and size of the surface
+     * @param renderer tile scheduler
+     * @param adaptive sample on an {@link AdaptiveSurfaceSampler} mesh instead of at every pixel
+     */
+    public OmegaSurface(PlaneWindow window, TiledSurfaceRenderer renderer, boolean adaptive) {
+        this.logger = new Logger();
+        this.modulus = SurfaceExporter.defaultModulus();
+        this.renderer = renderer;
+        this.window = window;
+        this.sampler = adaptive ? new AdaptiveSurfaceSampler(modulus) : null;
+        this.image = new BufferedImage(window.getWidth(), window.getHeight(), BufferedImage.TYPE_INT_RGB);
+        this.realAxis = window.realAxis(SurfaceExporter.MC);
+        this.imaginaryAxis = window.imaginaryAxis(SurfaceExporter.MC);
+        this.setPreferredSize(new Dimension(window.getWidth(), window.getHeight()));
+    }
 
-                BigDecimal modulus = ComplexUtils.evaluateZetaModulus(re, im, MC);
-                int colorVal = mapModulusToColor(modulus);
-                image.setRGB(x, y, colorVal);
+    /**
+     * Starts computing the surface on the renderer's pool, cancelling any render in
+     * progress. Tiles are repainted as they complete.
+     *
+     * @return handle of the new render
+     */
+    public synchronized TiledSurfaceRenderer.Render render() {
+        cancelRender();
+        logger.info("Generating Omega Surface...");
+        long started = System.nanoTime();
+        TiledSurfaceRenderer.TileListener listener = (tile, completed, total) -> {
+            repaint(tile);
+            if (completed == total) {
+                logger.info(String.format("Omega Surface generated in %.2f s for %d pixels. Evaluation cache: %s",
+                        (System.nanoTime() - started) / 1e9, window.getPixelCount(), EvaluationCache.shared().stats()));
             }
-        }
+        };
+        render = sampler != null
+                ? renderer.start(image, sampler.tiles(window, null), listener)
+                : renderer.start(image, this::shade, listener);
+        return render;
+    }
 
-        logger.info("Omega Surface generated.");
+    /** Stops the current render, if any, keeping the tiles already drawn. */
+    public synchronized void cancelRender() {
+        if (render != null && !render.isDone()) {
+            render.cancel();
+            logger.info("Omega Surface render cancelled after " + render.getCompletedTiles() + " of "
+                    + render.getTileCount() + " tiles.");
+        }
     }
 
-    private int mapModulusToColor(BigDecimal modulus) {
-        int value = modulus.min(new BigDecimal("20")).multiply(BigDecimal.valueOf(12)).intValue();
-        return new Color(value % 256, (value * 2) % 256, (value * 4) % 256).getRGB();
+    private int shade(int x, int y) {
+        return SurfaceExporter.colorOf(modulus.at(realAxis[x], imaginaryAxis[y]));
     }
 
     @Override
@@ -72,11 +102,25 @@ public class OmegaSurface extends JPanel {
         g.drawImage(image, 0, 0, this);
     }
 
+    @Override
+    public void removeNotify() {
+        cancelRender();
+        super.removeNotify();
+    }
+
+    /**
+     * Opens the visualizer window on the event dispatch thread and renders the surface in
+     * the background, so the window stays responsive while tiles fill in.
+     */
     public static void renderFrame() {
-        JFrame frame = new JFrame("PHC: Omega Surface Visualization");
-        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        frame.add(new OmegaSurface());
-        frame.pack();
-        frame.setVisible(true);
+        SwingUtilities.invokeLater(() -> {
+            JFrame frame = new JFrame("PHC: Omega Surface Visualization");
+            frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+            OmegaSurface surface = new OmegaSurface();
+            frame.add(surface);
+            frame.pack();
+            frame.setVisible(true);
+            surface.render();
+        });
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package visual;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * A rectangular window of the complex plane sampled on a width × height pixel grid.
+ * Column x samples Re = reStart + (reEnd − reStart)·x/width and row y samples
+ * Im = imStart + (imEnd − imStart)·y/height, so row 0 lies at imStart.
+ */
+public final class PlaneWindow {
+
+    /** The window shown by the OmegaSurface visualizer. */
+    public static final PlaneWindow DEFAULT = new PlaneWindow(
+            new BigDecimal("0.0"), new BigDecimal("1.0"), new BigDecimal("0.0"), new BigDecimal("50.0"), 800, 800);
+
+    private final BigDecimal reStart;
+    private final BigDecimal reEnd;
+    private final BigDecimal imStart;
+    private final BigDecimal imEnd;
+    private final int width;
+    private final int height;
+
+    public PlaneWindow(BigDecimal reStart, BigDecimal reEnd, BigDecimal imStart, BigDecimal imEnd, int width, int height) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("Window size must be positive.");
+        }
+        if (reStart.compareTo(reEnd) >= 0 || imStart.compareTo(imEnd) >= 0) {
+            throw new IllegalArgumentException("Window bounds must be increasing.");
+        }
+        this.reStart = reStart;
+        this.reEnd = reEnd;
+        this.imStart = imStart;
+        this.imEnd = imEnd;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Returns the same region sampled at a different pixel size.
+     *
+     * @param width  columns
+     * @param height rows
+     * @return resized window
+     */
+    public PlaneWindow withSize(int width, int height) {
+        return new PlaneWindow(reStart, reEnd, imStart, imEnd, width, height);
+    }
+
+    /**
+     * Returns the real coordinate of every column.
+     *
+     * @param mc precision of the coordinates
+     * @return array of length {@link #getWidth()}
+     */
+    public BigDecimal[] realAxis(MathContext mc) {
+        return axis(reStart, reEnd, width, mc);
+    }
+
+    /**
+     * Returns the imaginary coordinate of every row.
+     *
+     * @param mc precision of the coordinates
+     * @return array of length {@link #getHeight()}
+     */
+    public BigDecimal[] imaginaryAxis(MathContext mc) {
+        return axis(imStart, imEnd, height, mc);
+    }
+
+    private static BigDecimal[] axis(BigDecimal start, BigDecimal end, int count, MathContext mc) {
+        BigDecimal[] axis = new BigDecimal[count];
+        BigDecimal span = end.subtract(start, mc);
+        for (int i = 0; i < count; i++) {
+            axis[i] = start.add(span.multiply(BigDecimal.valueOf(i).divide(BigDecimal.valueOf(count), mc), mc), mc);
+        }
+        return axis;
+    }
+
+    public BigDecimal getReStart() {
+        return reStart;
+    }
+
+    public BigDecimal getReEnd() {
+        return reEnd;
+    }
+
+    public BigDecimal getImStart() {
+        return imStart;
+    }
+
+    public BigDecimal getImEnd() {
+        return imEnd;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public long getPixelCount() {
+        return (long) width * height;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s, %s] × [%s, %s]i at %d×%d", reStart, reEnd, imStart, imEnd, width, height);
+    }
+}
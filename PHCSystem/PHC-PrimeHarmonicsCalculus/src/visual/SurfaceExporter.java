@@ -0,0 +1,302 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package visual;
+
+import core.EvaluationCache;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Renders the ζ-like modulus surface without any Swing components, for batch jobs on
+ * headless machines. One parallel pass produces both the coloured image and the raw
+ * modulus grid, either by evaluating every pixel or through an
+ * {@link AdaptiveSurfaceSampler}. The image is written as PNG through ImageIO and the
+ * grid as a little-endian float32 file.
+ *
+ * <p>Grid files begin with a {@value #GRID_HEADER_BYTES}-byte header:
+ * <pre>
+ *  0  magic "PHCGRID\0"
+ *  8  int32   format version
+ * 12  int32   width
+ * 16  int32   height
+ * 20  int32   offset of the first sample ({@value #GRID_HEADER_BYTES})
+ * 24  float64 reStart, reEnd, imStart, imEnd
+ * 56  reserved
+ * </pre>
+ * followed by width × height float32 moduli in row-major order, row 0 at imStart. All
+ * values are little-endian and the samples are 8-byte aligned, so the file can be
+ * memory-mapped directly.
+ */
+public final class SurfaceExporter {
+
+    /** Precision of every modulus evaluation. */
+    public static final MathContext MC = new MathContext(40);
+
+    public static final int GRID_FORMAT_VERSION = 1;
+    public static final int GRID_HEADER_BYTES = 64;
+
+    private static final byte[] GRID_MAGIC = "PHCGRID\0".getBytes(StandardCharsets.US_ASCII);
+    private static final BigDecimal COLOR_CEILING = new BigDecimal("20");
+    private static final int WRITE_CHUNK_FLOATS = 1 << 16;
+
+    /** Modulus of the ζ-like function at one point of the plane. */
+    @FunctionalInterface
+    public interface Modulus {
+        BigDecimal at(BigDecimal re, BigDecimal im);
+    }
+
+    private final Modulus modulus;
+    private final TiledSurfaceRenderer renderer;
+    private final AdaptiveSurfaceSampler sampler;
+
+    /**
+     * Creates an exporter that evaluates through the shared EvaluationCache.
+     */
+    public SurfaceExporter() {
+        this(defaultModulus(), new TiledSurfaceRenderer());
+    }
+
+    public SurfaceExporter(Modulus modulus, TiledSurfaceRenderer renderer) {
+        this(modulus, renderer, null);
+    }
+
+    /**
+     * @param modulus  modulus used for per-pixel rendering
+     * @param renderer tile scheduler
+     * @param sampler  adaptive mesh sampler used instead of per-pixel evaluation, or {@code null}
+     */
+    public SurfaceExporter(Modulus modulus, TiledSurfaceRenderer renderer, AdaptiveSurfaceSampler sampler) {
+        this.modulus = modulus;
+        this.renderer = renderer;
+        this.sampler = sampler;
+    }
+
+    /**
+     * Returns the modulus used for surface colouring: the shared EvaluationCache at {@link #MC}.
+     *
+     * @return modulus function
+     */
+    public static Modulus defaultModulus() {
+        EvaluationCache cache = EvaluationCache.shared();
+        return (re, im) -> cache.modulus(re, im, MC);
+    }
+
+    /**
+     * Maps a modulus to the visualizer's colour palette.
+     *
+     * @param modulus non-negative modulus
+     * @return packed RGB
+     */
+    public static int colorOf(BigDecimal modulus) {
+        return color(modulus.min(COLOR_CEILING).multiply(BigDecimal.valueOf(12)).intValue());
+    }
+
+    /**
+     * Maps an interpolated modulus to the visualizer's colour palette.
+     *
+     * @param modulus non-negative modulus
+     * @return packed RGB
+     */
+    public static int colorOf(double modulus) {
+        return color((int) (Math.min(modulus, COLOR_CEILING.doubleValue()) * 12));
+    }
+
+    private static int color(int value) {
+        return new Color(value % 256, (value * 2) % 256, (value * 4) % 256).getRGB();
+    }
+
+    /**
+     * Renders a window and waits for all pixels.
+     *
+     * @param window region and resolution
+     * @return image, modulus grid and timing
+     */
+    public Surface render(PlaneWindow window) {
+        if (window.getPixelCount() > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Window " + window + " has too many pixels.");
+        }
+        int width = window.getWidth();
+        float[] grid = new float[width * window.getHeight()];
+        BufferedImage image = new BufferedImage(width, window.getHeight(), BufferedImage.TYPE_INT_RGB);
+
+        long started = System.nanoTime();
+        if (sampler != null) {
+            renderer.render(image, sampler.tiles(window, grid), null);
+        } else {
+            BigDecimal[] re = window.realAxis(MC);
+            BigDecimal[] im = window.imaginaryAxis(MC);
+            renderer.render(image, (x, y) -> {
+                BigDecimal value = modulus.at(re[x], im[y]);
+                grid[y * width + x] = value.floatValue();
+                return colorOf(value);
+            }, null);
+        }
+        return new Surface(window, image, grid, System.nanoTime() - started);
+    }
+
+    /**
+     * Reads a grid file written by {@link Surface#writeGrid(Path)} through a memory mapping
+     * and recolours it.
+     *
+     * @param path grid file
+     * @return surface with a zero render time
+     * @throws IOException if the file cannot be read or is not a grid file of this version
+     */
+    public static Surface readGrid(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < GRID_HEADER_BYTES) {
+                throw new IOException("Grid file " + path + " is truncated.");
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            byte[] magic = new byte[GRID_MAGIC.length];
+            mapped.get(magic);
+            int version = mapped.getInt();
+            if (!Arrays.equals(magic, GRID_MAGIC) || version != GRID_FORMAT_VERSION) {
+                throw new IOException("Not a version " + GRID_FORMAT_VERSION + " grid file: " + path);
+            }
+            int width = mapped.getInt();
+            int height = mapped.getInt();
+            int dataOffset = mapped.getInt();
+            PlaneWindow window = new PlaneWindow(BigDecimal.valueOf(mapped.getDouble()), BigDecimal.valueOf(mapped.getDouble()),
+                    BigDecimal.valueOf(mapped.getDouble()), BigDecimal.valueOf(mapped.getDouble()), width, height);
+            if (channel.size() < dataOffset + window.getPixelCount() * Float.BYTES) {
+                throw new IOException("Grid file " + path + " is truncated.");
+            }
+            float[] grid = new float[width * height];
+            mapped.position(dataOffset);
+            mapped.asFloatBuffer().get(grid);
+
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            for (int i = 0; i < grid.length; i++) {
+                pixels[i] = colorOf(grid[i]);
+            }
+            return new Surface(window, image, grid, 0);
+        }
+    }
+
+    public Modulus getModulus() {
+        return modulus;
+    }
+
+    /**
+     * Returns the adaptive sampler, or {@code null} when every pixel is evaluated.
+     *
+     * @return sampler
+     */
+    public AdaptiveSurfaceSampler getSampler() {
+        return sampler;
+    }
+
+    /** A rendered window: image, modulus grid and render time. */
+    public static final class Surface {
+        private final PlaneWindow window;
+        private final BufferedImage image;
+        private final float[] grid;
+        private final long renderNanos;
+
+        Surface(PlaneWindow window, BufferedImage image, float[] grid, long renderNanos) {
+            this.window = window;
+            this.image = image;
+            this.grid = grid;
+            this.renderNanos = renderNanos;
+        }
+
+        public PlaneWindow getWindow() {
+            return window;
+        }
+
+        public BufferedImage getImage() {
+            return image;
+        }
+
+        /**
+         * Returns the modulus grid in row-major order; the array is shared, not copied.
+         *
+         * @return width × height moduli
+         */
+        public float[] getGrid() {
+            return grid;
+        }
+
+        public long getRenderNanos() {
+            return renderNanos;
+        }
+
+        public double getPixelsPerSecond() {
+            return window.getPixelCount() / Math.max(renderNanos / 1e9, 1e-9);
+        }
+
+        /**
+         * Writes the image as PNG.
+         *
+         * @param path target file, replaced if present
+         * @throws IOException if writing fails or no PNG writer is available
+         */
+        public void writePng(Path path) throws IOException {
+            try (OutputStream out = Files.newOutputStream(path)) {
+                if (!ImageIO.write(image, "png", out)) {
+                    throw new IOException("No PNG writer available.");
+                }
+            }
+        }
+
+        /**
+         * Writes the modulus grid in the little-endian float32 format described on
+         * {@link SurfaceExporter}.
+         *
+         * @param path target file, replaced if present
+         * @throws IOException if writing fails
+         */
+        public void writeGrid(Path path) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer header = ByteBuffer.allocate(GRID_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                header.put(GRID_MAGIC)
+                        .putInt(GRID_FORMAT_VERSION)
+                        .putInt(window.getWidth())
+                        .putInt(window.getHeight())
+                        .putInt(GRID_HEADER_BYTES)
+                        .putDouble(window.getReStart().doubleValue())
+                        .putDouble(window.getReEnd().doubleValue())
+                        .putDouble(window.getImStart().doubleValue())
+                        .putDouble(window.getImEnd().doubleValue());
+                header.clear();
+                writeFully(channel, header);
+
+                ByteBuffer chunk = ByteBuffer.allocateDirect(WRITE_CHUNK_FLOATS * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                for (int offset = 0; offset < grid.length; offset += WRITE_CHUNK_FLOATS) {
+                    int count = Math.min(WRITE_CHUNK_FLOATS, grid.length - offset);
+                    chunk.clear();
+                    chunk.asFloatBuffer().put(grid, offset, count);
+                    chunk.limit(count * Float.BYTES);
+                    writeFully(channel, chunk);
+                }
+            }
+        }
+
+        private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package visual;
+
+import util.Logger;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Quadtree pyramid of rendered surface tiles for interactive zoom and pan.
+ *
+ * <p>Each tile is looked up in three places, in order:
+ * <ol>
+ *   <li>an in-memory LRU of coloured images;</li>
+ *   <li>an optional on-disk store of modulus grids, one {@code settings/level/x_y.grid} file
+ *       per tile in the {@link SurfaceExporter} grid format, where {@code settings} names the
+ *       base window and render settings so that pyramids sharing a directory never mix;</li>
+ *   <li>a fresh render through the exporter.</li>
+ * </ol>
+ * Loads run on a single background thread, since each tile render is already parallel
+ * across the ForkJoin pool. Visible tiles are loaded before prefetched ones, and requests
+ * for a tile already in flight share one load. A stored grid whose header does not match
+ * the tile's window, or which cannot be read, is discarded and the tile rendered again.
+ */
+public final class SurfaceTilePyramid implements AutoCloseable {
+
+    /** Edge of every tile in pixels. */
+    public static final int TILE_PIXELS = 256;
+
+    /** Default number of tile images kept in memory (about 32 MB). */
+    public static final int DEFAULT_MEMORY_TILES = 128;
+
+    private static final int VISIBLE = 0;
+    private static final int PREFETCH = 1;
+
+    private final PlaneWindow base;
+    private final SurfaceExporter exporter;
+    private final Path diskStore;
+    private final Logger logger;
+    private final Map<TileKey, BufferedImage> memory;
+    private final ConcurrentHashMap<TileKey, Pending> loading = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor loader;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder rendered = new LongAdder();
+
+    /**
+     * @param base        window covered by the level-0 tile; its pixel size is ignored
+     * @param exporter    renders missing tiles
+     * @param memoryTiles number of tile images kept in memory, at least 1
+     * @param diskStore   directory holding rendered grids, or {@code null} for memory only; each
+     *                    base window and render setting gets its own subdirectory
+     */
+    public SurfaceTilePyramid(PlaneWindow base, SurfaceExporter exporter, int memoryTiles, Path diskStore) {
+        if (memoryTiles < 1) {
+            throw new IllegalArgumentException("Memory cache must hold at least one tile.");
+        }
+        this.base = base;
+        this.exporter = exporter;
+        this.diskStore = diskStore == null ? null : diskStore.resolve(storeName(base, exporter));
+        this.logger = new Logger();
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TileKey, BufferedImage> eldest) {
+                return size() > memoryTiles;
+            }
+        };
+        this.loader = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "phc-tile-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns a tile from memory without loading it.
+     *
+     * @param key tile address
+     * @return image, or {@code null} if not in memory
+     */
+    public BufferedImage getIfPresent(TileKey key) {
+        synchronized (memory) {
+            return memory.get(key);
+        }
+    }
+
+    /**
+     * Returns a tile, loading it from disk or rendering it in the background if needed.
+     *
+     * @param key tile address
+     * @return future completed with the tile image
+     */
+    public CompletableFuture<BufferedImage> request(TileKey key) {
+        return load(key, VISIBLE);
+    }
+
+    /**
+     * Schedules a tile behind all visible requests, so that panning onto it is instant.
+     *
+     * @param key tile address, ignored if {@code null}
+     */
+    public void prefetch(TileKey key) {
+        if (key != null) {
+            load(key, PREFETCH);
+        }
+    }
+
+    private CompletableFuture<BufferedImage> load(TileKey key, int priority) {
+        BufferedImage cached = getIfPresent(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+        Pending pending = new Pending(priority);
+        Pending existing = loading.putIfAbsent(key, pending);
+        if (existing != null) {
+            if (priority < existing.priority) {
+                existing.priority = priority; // a prefetched tile became visible: queue it again up front
+                loader.execute(new LoadTask(key, priority, sequence.getAndIncrement(), existing));
+            }
+            return existing.future;
+        }
+        loader.execute(new LoadTask(key, priority, sequence.getAndIncrement(), pending));
+        return pending.future;
+    }
+
+    private BufferedImage compute(TileKey key) throws IOException {
+        BufferedImage image = getIfPresent(key); // a load for the same key may just have finished
+        if (image != null) {
+            return image;
+        }
+        PlaneWindow window = key.window(base, TILE_PIXELS, SurfaceExporter.MC);
+        Path file = diskStore == null ? null : diskStore.resolve(key.getLevel() + "/" + key.getX() + "_" + key.getY() + ".grid");
+        if (file != null && Files.isRegularFile(file)) {
+            try {
+                SurfaceExporter.Surface stored = SurfaceExporter.readGrid(file);
+                if (sameWindow(stored.getWindow(), window)) {
+                    image = stored.getImage();
+                    diskHits.increment();
+                } else {
+                    logger.warn("Discarding tile " + file + " rendered for " + stored.getWindow());
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Discarding unreadable tile " + file + ": " + e.getMessage());
+            }
+        }
+        if (image == null) {
+            SurfaceExporter.Surface surface = exporter.render(window);
+            rendered.increment();
+            image = surface.getImage();
+            if (file != null) {
+                store(surface, file);
+            }
+        }
+        synchronized (memory) {
+            memory.put(key, image);
+        }
+        return image;
+    }
+
+    /**
+     * Compares a stored window, whose bounds were saved as doubles, with the expected one.
+     */
+    private static boolean sameWindow(PlaneWindow stored, PlaneWindow expected) {
+        return stored.getWidth() == expected.getWidth() && stored.getHeight() == expected.getHeight()
+                && stored.getReStart().doubleValue() == expected.getReStart().doubleValue()
+                && stored.getReEnd().doubleValue() == expected.getReEnd().doubleValue()
+                && stored.getImStart().doubleValue() == expected.getImStart().doubleValue()
+                && stored.getImEnd().doubleValue() == expected.getImEnd().doubleValue();
+    }
+
+    /**
+     * Names the store subdirectory after the exact base bounds and everything that changes
+     * the rendered moduli: the evaluation precision and the sampler settings.
+     */
+    private static String storeName(PlaneWindow base, SurfaceExporter exporter) {
+        AdaptiveSurfaceSampler sampler = exporter.getSampler();
+        String settings = base.getReStart().toPlainString() + "," + base.getReEnd().toPlainString() + ","
+                + base.getImStart().toPlainString() + "," + base.getImEnd().toPlainString()
+                + ";mc=" + SurfaceExporter.MC.getPrecision()
+                + ";sampler=" + (sampler == null ? "none" : sampler.describeSettings());
+        return UUID.nameUUIDFromBytes(settings.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private void store(SurfaceExporter.Surface surface, Path file) {
+        Path partial = file.resolveSibling(file.getFileName() + ".part");
+        try {
+            Files.createDirectories(file.getParent());
+            surface.writeGrid(partial);
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not store tile " + file + ": " + e);
+            try {
+                Files.deleteIfExists(partial);
+            } catch (IOException ignored) {
+                // the next store of this tile overwrites it
+            }
+        }
+    }
+
+    public PlaneWindow getBase() {
+        return base;
+    }
+
+    public String stats() {
+        int size;
+        synchronized (memory) {
+            size = memory.size();
+        }
+        return String.format("memory hits=%d, disk hits=%d, rendered=%d, in memory=%d, pending=%d",
+                memoryHits.sum(), diskHits.sum(), rendered.sum(), size, loader.getQueue().size());
+    }
+
+    /** Stops the loader; pending loads are abandoned. */
+    @Override
+    public void close() {
+        loader.shutdownNow();
+        loading.values().forEach(pending -> pending.future.cancel(false));
+    }
+
+    /** A load in flight, shared by every request for its tile. */
+    private static final class Pending {
+        final CompletableFuture<BufferedImage> future = new CompletableFuture<>();
+        volatile int priority;
+
+        Pending(int priority) {
+            this.priority = priority;
+        }
+    }
+
+    /** A queued load, ordered by priority and then by submission. */
+    private final class LoadTask implements Runnable, Comparable<LoadTask> {
+        private final TileKey key;
+        private final int priority;
+        private final long order;
+        private final Pending pending;
+
+        LoadTask(TileKey key, int priority, long order, Pending pending) {
+            this.key = key;
+            this.priority = priority;
+            this.order = order;
+            this.pending = pending;
+        }
+
+        @Override
+        public void run() {
+            if (pending.future.isDone()) {
+                return; // already loaded by an earlier task for the same tile
+            }
+            try {
+                pending.future.complete(compute(key));
+            } catch (Throwable t) {
+                logger.error("Failed to load tile " + key, t);
+                pending.future.completeExceptionally(t);
+            } finally {
+                loading.remove(key, pending);
+            }
+        }
+
+        @Override
+        public int compareTo(LoadTask other) {
+            if (priority != other.priority) {
+                return Integer.compare(priority, other.priority);
+            }
+            return Long.compare(other.order, order); // newest first: the view has moved on
+        }
+    }
+}
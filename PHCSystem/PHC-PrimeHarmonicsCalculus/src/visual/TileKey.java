@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package visual;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Address of a tile in the surface quadtree. Level 0 is a single tile covering the whole
+ * base window, and each level doubles the tile count along both axes, so level L has
+ * 2^L × 2^L tiles. Column x counts along the real axis and row y along the imaginary axis.
+ */
+public final class TileKey {
+
+    /** Deepest level supported; keeps tile coordinates exact in a double. */
+    public static final int MAX_LEVEL = 40;
+
+    private final int level;
+    private final long x;
+    private final long y;
+
+    public TileKey(int level, long x, long y) {
+        if (level < 0 || level > MAX_LEVEL) {
+            throw new IllegalArgumentException("Tile level must be within [0, " + MAX_LEVEL + "].");
+        }
+        long side = 1L << level;
+        if (x < 0 || y < 0 || x >= side || y >= side) {
+            throw new IllegalArgumentException("Tile " + x + "," + y + " lies outside level " + level + ".");
+        }
+        this.level = level;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Returns the number of tiles along each axis at a level.
+     *
+     * @param level pyramid level
+     * @return 2^level
+     */
+    public static long tilesPerSide(int level) {
+        return 1L << level;
+    }
+
+    /**
+     * Returns the ancestor {@code generations} levels up; zero returns this key.
+     *
+     * @param generations levels to climb, at most {@link #getLevel()}
+     * @return ancestor key
+     */
+    public TileKey ancestor(int generations) {
+        if (generations == 0) {
+            return this;
+        }
+        return new TileKey(level - generations, x >> generations, y >> generations);
+    }
+
+    /**
+     * Returns the neighbour offset by (dx, dy) tiles, or {@code null} outside the pyramid.
+     *
+     * @param dx column offset
+     * @param dy row offset
+     * @return neighbouring key or null
+     */
+    public TileKey neighbour(long dx, long dy) {
+        long nx = x + dx;
+        long ny = y + dy;
+        long side = tilesPerSide(level);
+        return nx < 0 || ny < 0 || nx >= side || ny >= side ? null : new TileKey(level, nx, ny);
+    }
+
+    /**
+     * Returns the region of {@code base} covered by this tile, sampled at the given size.
+     *
+     * @param base   window covered by level 0
+     * @param pixels tile edge in pixels
+     * @param mc     precision of the bounds
+     * @return tile window
+     */
+    public PlaneWindow window(PlaneWindow base, int pixels, MathContext mc) {
+        BigDecimal side = BigDecimal.valueOf(tilesPerSide(level));
+        BigDecimal reStep = base.getReEnd().subtract(base.getReStart()).divide(side, mc);
+        BigDecimal imStep = base.getImEnd().subtract(base.getImStart()).divide(side, mc);
+        BigDecimal reStart = base.getReStart().add(reStep.multiply(BigDecimal.valueOf(x)), mc);
+        BigDecimal imStart = base.getImStart().add(imStep.multiply(BigDecimal.valueOf(y)), mc);
+        return new PlaneWindow(reStart, reStart.add(reStep, mc), imStart, imStart.add(imStep, mc), pixels, pixels);
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public long getX() {
+        return x;
+    }
+
+    public long getY() {
+        return y;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof TileKey)) return false;
+        TileKey other = (TileKey) obj;
+        return level == other.level && x == other.x && y == other.y;
+    }
+
+    @Override
+    public int hashCode() {
+        return (31 * level + Long.hashCode(x)) * 31 + Long.hashCode(y);
+    }
+
+    @Override
+    public String toString() {
+        return level + "/" + x + "/" + y;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package visual;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renders an image in square tiles on a ForkJoinPool, writing pixels straight into the
+ * {@code int[]} backing an RGB BufferedImage instead of going through {@code setRGB}.
+ *
+ * <p>Every finished tile is reported to a {@link TileListener} so that a view can repaint
+ * it at once. A render can be cancelled at any time. Workers stop at the next row boundary
+ * (or tile boundary, for a {@link TileFunction}) and leave pixels they have not reached
+ * untouched.
+ */
+public final class TiledSurfaceRenderer {
+
+    /** Default tile edge in pixels. */
+    public static final int DEFAULT_TILE_SIZE = 64;
+
+    /** Computes the packed RGB colour of one pixel. Called concurrently from worker threads. */
+    @FunctionalInterface
+    public interface PixelFunction {
+        int rgb(int x, int y);
+    }
+
+    /**
+     * Computes a whole tile at once, for renderers that share work between the pixels of a
+     * tile. Called concurrently for different tiles.
+     */
+    @FunctionalInterface
+    public interface TileFunction {
+
+        /**
+         * Writes the packed RGB colours of the pixels in [x, x + width) × [y, y + height).
+         *
+         * @param x        first column
+         * @param y        first row
+         * @param width    tile width
+         * @param height   tile height
+         * @param pixels   image data
+         * @param offset   index of pixel (x, y) in {@code pixels}
+         * @param scanline distance between rows in {@code pixels}
+         */
+        void renderTile(int x, int y, int width, int height, int[] pixels, int offset, int scanline);
+    }
+
+    /** Receives finished tiles on worker threads; implementations must be thread-safe. */
+    @FunctionalInterface
+    public interface TileListener {
+
+        /**
+         * Called once all pixels of a tile have been written.
+         *
+         * @param tile           pixel bounds of the tile
+         * @param completedTiles number of tiles finished so far, including this one
+         * @param tileCount      total number of tiles in the render
+         */
+        void tileCompleted(Rectangle tile, int completedTiles, int tileCount);
+    }
+
+    private final ForkJoinPool pool;
+    private final int tileSize;
+
+    public TiledSurfaceRenderer() {
+        this(ForkJoinPool.commonPool(), DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * @param pool     pool that runs the tiles
+     * @param tileSize tile edge in pixels, at least 1
+     */
+    public TiledSurfaceRenderer(ForkJoinPool pool, int tileSize) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be positive.");
+        }
+        this.pool = pool;
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Starts rendering every pixel of {@code image} and returns immediately.
+     *
+     * @param image    target of type {@code TYPE_INT_RGB} or {@code TYPE_INT_ARGB}
+     * @param pixels   colour of each pixel
+     * @param listener progress callback, or {@code null}
+     * @return handle to wait for or cancel the render
+     */
+    public Render start(BufferedImage image, PixelFunction pixels, TileListener listener) {
+        return start(image, (TileFunction) null, pixels, listener);
+    }
+
+    /**
+     * Starts rendering {@code image} tile by tile and returns immediately. Cancellation
+     * takes effect between tiles.
+     *
+     * @param image    target of type {@code TYPE_INT_RGB} or {@code TYPE_INT_ARGB}
+     * @param tiles    fills one tile at a time
+     * @param listener progress callback, or {@code null}
+     * @return handle to wait for or cancel the render
+     */
+    public Render start(BufferedImage image, TileFunction tiles, TileListener listener) {
+        return start(image, tiles, null, listener);
+    }
+
+    private Render start(BufferedImage image, TileFunction tiles, PixelFunction pixels, TileListener listener) {
+        int type = image.getType();
+        if (type != BufferedImage.TYPE_INT_RGB && type != BufferedImage.TYPE_INT_ARGB) {
+            throw new IllegalArgumentException("Image must be TYPE_INT_RGB or TYPE_INT_ARGB.");
+        }
+        Render render = new Render(image, tiles, pixels, listener);
+        pool.execute(render.root);
+        return render;
+    }
+
+    /**
+     * Renders every pixel of {@code image} and waits for completion.
+     *
+     * @see #start(BufferedImage, PixelFunction, TileListener)
+     */
+    public void render(BufferedImage image, PixelFunction pixels, TileListener listener) {
+        start(image, pixels, listener).await();
+    }
+
+    /**
+     * Renders {@code image} tile by tile and waits for completion.
+     *
+     * @see #start(BufferedImage, TileFunction, TileListener)
+     */
+    public void render(BufferedImage image, TileFunction tiles, TileListener listener) {
+        start(image, tiles, listener).await();
+    }
+
+    /** A running or finished render. */
+    public final class Render {
+
+        private final int[] data;
+        private final int width;
+        private final int height;
+        private final int columns;
+        private final int tileCount;
+        private final TileFunction tiles;
+        private final PixelFunction pixels;
+        private final TileListener listener;
+        private final AtomicInteger completed = new AtomicInteger();
+        private final TileTask root;
+        private volatile boolean cancelled;
+
+        private Render(BufferedImage image, TileFunction tiles, PixelFunction pixels, TileListener listener) {
+            this.data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            this.width = image.getWidth();
+            this.height = image.getHeight();
+            this.columns = (width + tileSize - 1) / tileSize;
+            this.tileCount = columns * ((height + tileSize - 1) / tileSize);
+            this.tiles = tiles;
+            this.pixels = pixels;
+            this.listener = listener;
+            this.root = new TileTask(this, 0, tileCount);
+        }
+
+        /** Asks the workers to stop; tiles already finished stay in the image. */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public boolean isDone() {
+            return root.isDone();
+        }
+
+        public int getCompletedTiles() {
+            return completed.get();
+        }
+
+        public int getTileCount() {
+            return tileCount;
+        }
+
+        /**
+         * Blocks until the render finishes or stops after a cancellation.
+         *
+         * @throws CancellationException if the render was cancelled before every tile finished
+         */
+        public void await() {
+            root.join();
+            if (cancelled && completed.get() < tileCount) {
+                throw new CancellationException("Render cancelled after " + completed.get() + " of " + tileCount + " tiles.");
+            }
+        }
+
+        private void renderTile(int index) {
+            int x0 = (index % columns) * tileSize;
+            int y0 = (index / columns) * tileSize;
+            int x1 = Math.min(x0 + tileSize, width);
+            int y1 = Math.min(y0 + tileSize, height);
+            if (tiles != null) {
+                tiles.renderTile(x0, y0, x1 - x0, y1 - y0, data, y0 * width + x0, width);
+            } else {
+                for (int y = y0; y < y1; y++) {
+                    if (cancelled) {
+                        return;
+                    }
+                    int row = y * width;
+                    for (int x = x0; x < x1; x++) {
+                        data[row + x] = pixels.rgb(x, y);
+                    }
+                }
+            }
+            int done = completed.incrementAndGet();
+            if (listener != null) {
+                listener.tileCompleted(new Rectangle(x0, y0, x1 - x0, y1 - y0), done, tileCount);
+            }
+        }
+    }
+
+    /** Splits a range of tile indices in halves down to single tiles. */
+    private static final class TileTask extends RecursiveAction {
+        private final Render render;
+        private final int from;
+        private final int to;
+
+        TileTask(Render render, int from, int to) {
+            this.render = render;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (render.cancelled) {
+                return;
+            }
+            if (to - from == 1) {
+                render.renderTile(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new TileTask(render, from, mid), new TileTask(render, mid, to));
+        }
+    }
+}
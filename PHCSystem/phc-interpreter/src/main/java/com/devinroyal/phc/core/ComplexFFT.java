@@ -0,0 +1,237 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package core;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mixed-radix complex FFT plan in split (re[], im[]) form, the engine behind {@link RealFFT}.
+ * Lengths are factored into radix-4 and radix-2 stages with hand-written butterflies and
+ * generic odd-radix stages for any remaining prime factors. Stages run in Stockham
+ * autosort order, ping-ponging between the caller's arrays and plan-owned scratch, so
+ * the output is in natural order without a bit-reversal pass.
+ *
+ * <p>Twiddle tables depend only on the length and are shared between plans. A plan owns
+ * mutable scratch and is therefore not thread-safe; use one plan per thread.
+ */
+final class ComplexFFT {
+
+    private static final ConcurrentHashMap<Integer, double[]> TWIDDLES = new ConcurrentHashMap<>();
+
+    private final int n;
+    private final int[] factors;
+    private final double[] twiddles;
+    private final double[] workRe;
+    private final double[] workIm;
+    private final double[] radixRe;
+    private final double[] radixIm;
+
+    ComplexFFT(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("FFT length must be positive.");
+        }
+        this.n = n;
+        this.factors = factor(n);
+        this.twiddles = twiddles(n);
+        this.workRe = new double[n];
+        this.workIm = new double[n];
+        int largest = 1;
+        for (int p : factors) {
+            largest = Math.max(largest, p);
+        }
+        this.radixRe = new double[largest];
+        this.radixIm = new double[largest];
+    }
+
+    int length() {
+        return n;
+    }
+
+    /**
+     * Returns exp(-2 pi i t / n) for t in [0, n), interleaved as (cos, sin) pairs.
+     */
+    static double[] twiddles(int n) {
+        return TWIDDLES.computeIfAbsent(n, size -> {
+            double[] table = new double[2 * size];
+            for (int t = 0; t < size; t++) {
+                double angle = 2 * Math.PI * t / size;
+                table[2 * t] = Math.cos(angle);
+                table[2 * t + 1] = -Math.sin(angle);
+            }
+            return table;
+        });
+    }
+
+    /**
+     * In-place forward transform X[k] = sum x[j] exp(-2 pi i jk / n) of the first n entries.
+     */
+    void forward(double[] re, double[] im) {
+        double[] srcRe = re;
+        double[] srcIm = im;
+        double[] dstRe = workRe;
+        double[] dstIm = workIm;
+        int span = 1;
+        for (int p : factors) {
+            if (p == 4) {
+                radix4(srcRe, srcIm, dstRe, dstIm, span);
+            } else if (p == 2) {
+                radix2(srcRe, srcIm, dstRe, dstIm, span);
+            } else {
+                radixGeneric(srcRe, srcIm, dstRe, dstIm, span, p);
+            }
+            span *= p;
+            double[] swapRe = srcRe;
+            double[] swapIm = srcIm;
+            srcRe = dstRe;
+            srcIm = dstIm;
+            dstRe = swapRe;
+            dstIm = swapIm;
+        }
+        if (srcRe != re) {
+            System.arraycopy(srcRe, 0, re, 0, n);
+            System.arraycopy(srcIm, 0, im, 0, n);
+        }
+    }
+
+    /**
+     * In-place unnormalized inverse transform, via conj(F(conj(x))).
+     */
+    void inverse(double[] re, double[] im) {
+        for (int i = 0; i < n; i++) {
+            im[i] = -im[i];
+        }
+        forward(re, im);
+        for (int i = 0; i < n; i++) {
+            im[i] = -im[i];
+        }
+    }
+
+    private void radix2(double[] sRe, double[] sIm, double[] dRe, double[] dIm, int span) {
+        int quarter = n / 2;
+        int step = n / (span * 2);
+        for (int j = 0; j < quarter; j++) {
+            int k = j % span;
+            int t = 2 * (k * step);
+            double wr = twiddles[t];
+            double wi = twiddles[t + 1];
+            double ar = sRe[j];
+            double ai = sIm[j];
+            double br = sRe[j + quarter] * wr - sIm[j + quarter] * wi;
+            double bi = sRe[j + quarter] * wi + sIm[j + quarter] * wr;
+            int out = (j - k) * 2 + k;
+            dRe[out] = ar + br;
+            dIm[out] = ai + bi;
+            dRe[out + span] = ar - br;
+            dIm[out + span] = ai - bi;
+        }
+    }
+
+    private void radix4(double[] sRe, double[] sIm, double[] dRe, double[] dIm, int span) {
+        int q = n / 4;
+        int step = n / (span * 4);
+        for (int j = 0; j < q; j++) {
+            int k = j % span;
+            int t = k * step;
+            double a0r = sRe[j];
+            double a0i = sIm[j];
+            double a1r = sRe[j + q];
+            double a1i = sIm[j + q];
+            double a2r = sRe[j + 2 * q];
+            double a2i = sIm[j + 2 * q];
+            double a3r = sRe[j + 3 * q];
+            double a3i = sIm[j + 3 * q];
+            if (t != 0) {
+                double wr = twiddles[2 * t];
+                double wi = twiddles[2 * t + 1];
+                double x = a1r * wr - a1i * wi;
+                a1i = a1r * wi + a1i * wr;
+                a1r = x;
+                wr = twiddles[4 * t];
+                wi = twiddles[4 * t + 1];
+                x = a2r * wr - a2i * wi;
+                a2i = a2r * wi + a2i * wr;
+                a2r = x;
+                wr = twiddles[6 * t];
+                wi = twiddles[6 * t + 1];
+                x = a3r * wr - a3i * wi;
+                a3i = a3r * wi + a3i * wr;
+                a3r = x;
+            }
+            double t0r = a0r + a2r;
+            double t0i = a0i + a2i;
+            double t1r = a0r - a2r;
+            double t1i = a0i - a2i;
+            double t2r = a1r + a3r;
+            double t2i = a1i + a3i;
+            double t3r = a1i - a3i; // (a1 - a3) * -i
+            double t3i = a3r - a1r;
+            int out = (j - k) * 4 + k;
+            dRe[out] = t0r + t2r;
+            dIm[out] = t0i + t2i;
+            dRe[out + span] = t1r + t3r;
+            dIm[out + span] = t1i + t3i;
+            dRe[out + 2 * span] = t0r - t2r;
+            dIm[out + 2 * span] = t0i - t2i;
+            dRe[out + 3 * span] = t1r - t3r;
+            dIm[out + 3 * span] = t1i - t3i;
+        }
+    }
+
+    /**
+     * Radix-p stage by direct O(p^2) DFT, for odd prime factors.
+     */
+    private void radixGeneric(double[] sRe, double[] sIm, double[] dRe, double[] dIm, int span, int p) {
+        int q = n / p;
+        int step = n / (span * p);
+        for (int j = 0; j < q; j++) {
+            int k = j % span;
+            for (int r = 0; r < p; r++) {
+                int t = 2 * (int) (((long) r * k * step) % n);
+                double xr = sRe[j + r * q];
+                double xi = sIm[j + r * q];
+                radixRe[r] = xr * twiddles[t] - xi * twiddles[t + 1];
+                radixIm[r] = xr * twiddles[t + 1] + xi * twiddles[t];
+            }
+            int out = (j - k) * p + k;
+            for (int s = 0; s < p; s++) {
+                double sumRe = 0.0;
+                double sumIm = 0.0;
+                for (int r = 0; r < p; r++) {
+                    int t = 2 * (int) (((long) r * s) % p) * q; // exp(-2 pi i rs / p)
+                    sumRe += radixRe[r] * twiddles[t] - radixIm[r] * twiddles[t + 1];
+                    sumIm += radixRe[r] * twiddles[t + 1] + radixIm[r] * twiddles[t];
+                }
+                dRe[out + s * span] = sumRe;
+                dIm[out + s * span] = sumIm;
+            }
+        }
+    }
+
+    private static int[] factor(int n) {
+        int[] factors = new int[32];
+        int count = 0;
+        int rest = n;
+        while (rest % 4 == 0) {
+            factors[count++] = 4;
+            rest /= 4;
+        }
+        if (rest % 2 == 0) {
+            factors[count++] = 2;
+            rest /= 2;
+        }
+        for (int p = 3; (long) p * p <= rest; p += 2) {
+            while (rest % p == 0) {
+                factors[count++] = p;
+                rest /= p;
+            }
+        }
+        if (rest > 1) {
+            factors[count++] = rest;
+        }
+        return Arrays.copyOf(factors, count);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package core;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongConsumer;
+
+/**
+ * Multi-core front end for {@link PrimeSieve}. The range is cut into independent
+ * cache-sized segments which are sieved on a {@link ForkJoinPool} with work stealing;
+ * per-segment results are merged back in ascending order, so the output is identical
+ * to the sequential sieve. Pools are shared by every sieve of the same parallelism, and
+ * each worker thread keeps one segment bitmap for all the segments it sieves.
+ */
+public final class ParallelPrimeSieve {
+
+    /** Limits below this bound are sieved on a single thread by {@link #defaultParallelism(long)}. */
+    public static final long PARALLEL_THRESHOLD = 1L << 24;
+
+    /** Segments sieved per worker before results are handed to a streaming consumer. */
+    private static final int SEGMENTS_PER_WORKER = 4;
+
+    private static final ConcurrentHashMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<long[]> SEGMENT_BITS =
+            ThreadLocal.withInitial(() -> new long[PrimeSieve.WORDS_PER_SEGMENT]);
+
+    private final int parallelism;
+
+    /**
+     * Creates a sieve using every available processor.
+     */
+    public ParallelPrimeSieve() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a sieve with a fixed level of parallelism.
+     *
+     * @param parallelism number of worker threads, at least 1
+     */
+    public ParallelPrimeSieve(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the parallelism worth using for a sieve up to {@code limit}: one thread for
+     * small limits, where pool start-up would dominate, and every processor otherwise.
+     *
+     * @param limit exclusive sieve bound
+     * @return suggested worker count
+     */
+    public static int defaultParallelism(long limit) {
+        return limit < PARALLEL_THRESHOLD ? 1 : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Streams every prime strictly below {@code limit}, in ascending order. Segments are
+     * sieved in parallel waves so that memory stays bounded regardless of the limit.
+     *
+     * @param limit  exclusive upper bound, at most {@link PrimeSieve#MAX_LIMIT}
+     * @param action consumer receiving each prime, always called from the calling thread
+     */
+    public void forEachPrime(long limit, LongConsumer action) {
+        PrimeSieve.checkLimit(limit);
+        if (parallelism == 1) {
+            PrimeSieve.forEachPrime(limit, action);
+            return;
+        }
+        if (limit <= 2) {
+            return;
+        }
+        action.accept(2L);
+
+        long[] basePrimes = PrimeSieve.oddBasePrimes(limit);
+        long segmentCount = segmentCount(limit);
+        int wave = parallelism * SEGMENTS_PER_WORKER;
+        ForkJoinPool pool = sharedPool(parallelism);
+        for (long first = 0; first < segmentCount; first += wave) {
+            int count = (int) Math.min(wave, segmentCount - first);
+            long[][] results = new long[count][];
+            pool.invoke(new SegmentTask(limit, basePrimes, first, 0, count, results));
+            for (long[] segment : results) {
+                for (long p : segment) {
+                    action.accept(p);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns every prime strictly below {@code limit} as a sorted array.
+     *
+     * @param limit exclusive upper bound, at most {@link PrimeSieve#MAX_LIMIT}
+     * @return ascending primes below the limit
+     */
+    public long[] primesBelow(long limit) {
+        PrimeSieve.checkLimit(limit);
+        if (parallelism == 1) {
+            return PrimeSieve.primesBelow(limit);
+        }
+        if (limit <= 2) {
+            return new long[0];
+        }
+
+        long segmentCount = segmentCount(limit);
+        if (segmentCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Limit too large to materialize; use forEachPrime.");
+        }
+        long[] basePrimes = PrimeSieve.oddBasePrimes(limit);
+        long[][] results = new long[(int) segmentCount][];
+        sharedPool(parallelism).invoke(new SegmentTask(limit, basePrimes, 0, 0, results.length, results));
+
+        long total = 1;
+        for (long[] segment : results) {
+            total += segment.length;
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many primes to materialize; use forEachPrime.");
+        }
+        long[] primes = new long[(int) total];
+        primes[0] = 2L;
+        int offset = 1;
+        for (long[] segment : results) {
+            System.arraycopy(segment, 0, primes, offset, segment.length);
+            offset += segment.length;
+        }
+        return primes;
+    }
+
+    /**
+     * Returns the first {@code count} primes as a sorted array.
+     *
+     * @param count number of primes requested
+     * @return ascending array of the first {@code count} primes
+     */
+    public long[] firstPrimes(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Prime count must be non-negative.");
+        }
+        long[] all = primesBelow(PrimeSieve.upperBoundForCount(count));
+        return all.length == count ? all : Arrays.copyOf(all, count);
+    }
+
+    /**
+     * Returns the common pool if its parallelism matches, otherwise a pool kept for this
+     * parallelism and shared with other parallel kernels of the package. Idle workers of
+     * either time out, so kept pools hold no threads between calls.
+     */
+    static ForkJoinPool sharedPool(int parallelism) {
+        if (parallelism == ForkJoinPool.getCommonPoolParallelism()) {
+            return ForkJoinPool.commonPool();
+        }
+        return POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+    }
+
+    private static long segmentCount(long limit) {
+        return (limit + PrimeSieve.SEGMENT_SPAN - 1) / PrimeSieve.SEGMENT_SPAN;
+    }
+
+    /**
+     * Splits a run of segments in halves until a single segment remains, letting idle
+     * workers steal the larger halves. Each result slot is written by exactly one leaf.
+     */
+    private static final class SegmentTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long limit;
+        private final long[] basePrimes;
+        private final long firstSegment;
+        private final int from;
+        private final int to;
+        private final long[][] results;
+
+        SegmentTask(long limit, long[] basePrimes, long firstSegment, int from, int to, long[][] results) {
+            this.limit = limit;
+            this.basePrimes = basePrimes;
+            this.firstSegment = firstSegment;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                long low = (firstSegment + from) * PrimeSieve.SEGMENT_SPAN;
+                long high = Math.min(low + PrimeSieve.SEGMENT_SPAN, limit);
+                results[from] = PrimeSieve.segmentPrimes(low, high, basePrimes, SEGMENT_BITS.get());
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SegmentTask(limit, basePrimes, firstSegment, from, mid, results),
+                    new SegmentTask(limit, basePrimes, firstSegment, mid, to, results));
+        }
+    }
+}
@@ -29,7 +29,7 @@ public class PhiLattice {
      * @param modulus   the modulus under which harmonics are computed
      */
     public PhiLattice(int dimension, BigInteger modulus) {
-        if (dimension <= 0 || modulus == null || !modulus.isProbablePrime(100)) {
+        if (dimension <= 0 || modulus == null || !Primality.isPrime(modulus)) {
             throw new IllegalArgumentException("Dimension must be > 0 and modulus must be a prime.");
         }
         this.dimension = dimension;
@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package core;
+
+import java.math.BigInteger;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Central primality service for SpectralPrime construction and PrimeOperator searches.
+ * Values below 2^63 are decided exactly by a deterministic Miller–Rabin test over the
+ * seven-base witness set of Jim Sinclair, using 64-bit Montgomery multiplication.
+ * Larger values use {@link BigInteger#isProbablePrime(int)} and are remembered in a
+ * bounded concurrent memo so repeated checks of the same candidate are free.
+ */
+public final class Primality {
+
+    /** Probable-prime certainty used above the deterministic 64-bit range. */
+    public static final int CERTAINTY = 100;
+
+    /** Maximum number of large candidates remembered by the memo. */
+    static final int MEMO_CAPACITY = 4096;
+
+    private static final long[] WITNESSES = {2, 325, 9375, 28178, 450775, 9780504, 1795265022};
+    private static final int[] SMALL_PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53};
+    private static final long TRIAL_LIMIT = 59L * 59L;
+
+    private static final ConcurrentHashMap<BigInteger, Boolean> MEMO = new ConcurrentHashMap<>();
+    private static final Queue<BigInteger> MEMO_ORDER = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger MEMO_SIZE = new AtomicInteger();
+
+    private Primality() {
+        throw new UnsupportedOperationException("Primality is a static utility class.");
+    }
+
+    /**
+     * Decides primality of a non-negative long exactly.
+     *
+     * @param n value to test
+     * @return true iff {@code n} is prime
+     */
+    public static boolean isPrime(long n) {
+        if (n < 2) {
+            return false;
+        }
+        for (int p : SMALL_PRIMES) {
+            if (n % p == 0) {
+                return n == p;
+            }
+        }
+        if (n < TRIAL_LIMIT) {
+            return true;
+        }
+        return millerRabin(n);
+    }
+
+    /**
+     * Decides primality of a BigInteger: exactly below 2^63, probabilistically above
+     * with certainty {@value #CERTAINTY}, consulting the memo first.
+     *
+     * @param n value to test
+     * @return true if {@code n} is (probably) prime
+     */
+    public static boolean isPrime(BigInteger n) {
+        if (n == null || n.signum() <= 0) {
+            return false;
+        }
+        if (n.bitLength() < Long.SIZE) {
+            return isPrime(n.longValue());
+        }
+        Boolean known = MEMO.get(n);
+        if (known != null) {
+            return known;
+        }
+        boolean prime = n.isProbablePrime(CERTAINTY);
+        remember(n, prime);
+        return prime;
+    }
+
+    /**
+     * Decides primality like {@link #isPrime(BigInteger)} without adding the result to the
+     * memo, for callers such as PrimeSearch windows that test many one-off candidates and
+     * keep their own per-candidate state; their composites would otherwise flush the memo.
+     *
+     * @param n value to test
+     * @return true if {@code n} is (probably) prime
+     */
+    static boolean testUncached(BigInteger n) {
+        if (n.signum() <= 0) {
+            return false;
+        }
+        if (n.bitLength() < Long.SIZE) {
+            return isPrime(n.longValue());
+        }
+        Boolean known = MEMO.get(n);
+        return known != null ? known : n.isProbablePrime(CERTAINTY);
+    }
+
+    private static void remember(BigInteger n, boolean prime) {
+        if (MEMO.putIfAbsent(n, prime) != null) {
+            return;
+        }
+        MEMO_ORDER.add(n);
+        if (MEMO_SIZE.incrementAndGet() > MEMO_CAPACITY) {
+            BigInteger eldest = MEMO_ORDER.poll();
+            if (eldest != null && MEMO.remove(eldest) != null) {
+                MEMO_SIZE.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Deterministic Miller–Rabin for odd n in (TRIAL_LIMIT, 2^63), in Montgomery form with R = 2^64.
+     */
+    private static boolean millerRabin(long n) {
+        long d = n - 1;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>>= s;
+
+        long nInv = inverse(n);
+        long one = Long.remainderUnsigned(-1L, n) + 1; // R mod n
+        if (one == n) {
+            one = 0;
+        }
+        long r2 = one;
+        for (int i = 0; i < Long.SIZE; i++) {
+            r2 = doubleMod(r2, n); // R^2 mod n
+        }
+        long minusOne = n - one;
+
+        for (long witness : WITNESSES) {
+            long a = witness % n;
+            if (a == 0) {
+                continue;
+            }
+            long x = montPow(montMul(a, r2, n, nInv), d, one, n, nInv);
+            if (x == one || x == minusOne) {
+                continue;
+            }
+            boolean composite = true;
+            for (int i = 1; i < s; i++) {
+                x = montMul(x, x, n, nInv);
+                if (x == minusOne) {
+                    composite = false;
+                    break;
+                }
+            }
+            if (composite) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long montPow(long base, long exponent, long one, long n, long nInv) {
+        long result = one;
+        while (exponent != 0) {
+            if ((exponent & 1L) != 0) {
+                result = montMul(result, base, n, nInv);
+            }
+            base = montMul(base, base, n, nInv);
+            exponent >>>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Montgomery product a * b * R^-1 mod n for 0 &le; a, b &lt; n &lt; 2^63.
+     */
+    private static long montMul(long a, long b, long n, long nInv) {
+        long lo = a * b;
+        long hi = Math.multiplyHigh(a, b);
+        long m = lo * nInv;
+        long mnHi = Math.multiplyHigh(m, n) + ((m >> 63) & n); // unsigned high word of m * n
+        long t = hi - mnHi;
+        return t < 0 ? t + n : t;
+    }
+
+    /**
+     * n^-1 mod 2^64 for odd n by Newton iteration; each step doubles the correct bits.
+     */
+    private static long inverse(long n) {
+        long x = n;
+        for (int i = 0; i < 5; i++) {
+            x *= 2 - n * x;
+        }
+        return x;
+    }
+
+    private static long doubleMod(long x, long n) {
+        long y = x << 1;
+        return Long.compareUnsigned(y, n) >= 0 ? y - n : y;
+    }
+}
@@ -6,7 +6,6 @@
 package core;
 
 import java.math.BigInteger;
-import java.util.HashSet;
 import java.util.Set;
 import util.Logger;
 
@@ -16,40 +15,125 @@ import util.Logger;
  */
 public class PrimeField {
 
-    private final Set<SpectralPrime> elements;
     private final BigInteger modulus;
+    private final int parallelism;
+    private final PrimeTable table;
+    private SpectralPrimeTable elements;
 
     /**
-     * Initializes a PrimeField with an upper harmonic limit.
+     * Initializes a PrimeField with an upper harmonic limit, which must be below 2^63.
+     * If the {@value PrimeTable#PATH_PROPERTY} system property names a valid prime table
+     * covering the modulus, the field is backed by it instead of being sieved.
      *
      * @param modulus BigInteger modulus defining the boundary of the field
      */
     public PrimeField(BigInteger modulus) {
-        if (modulus == null || !modulus.isProbablePrime(100)) {
+        this(modulus, defaultParallelism(modulus));
+    }
+
+    /**
+     * Initializes a PrimeField with an upper harmonic limit, sieving its elements
+     * with the given number of worker threads.
+     *
+     * @param modulus     BigInteger modulus defining the boundary of the field
+     * @param parallelism number of sieve worker threads, at least 1
+     */
+    public PrimeField(BigInteger modulus, int parallelism) {
+        this(modulus, parallelism, defaultTable(modulus));
+    }
+
+    /**
+     * Initializes a PrimeField backed by a memory-mapped prime table. Membership and size
+     * queries are answered from the table; elements are only materialized on demand.
+     * Falls back to sieving if the table is {@code null} or does not cover the modulus.
+     *
+     * @param modulus BigInteger modulus defining the boundary of the field
+     * @param table   prime table, may be {@code null}
+     */
+    public PrimeField(BigInteger modulus, PrimeTable table) {
+        this(modulus, defaultParallelism(modulus), table);
+    }
+
+    private PrimeField(BigInteger modulus, int parallelism, PrimeTable table) {
+        if (modulus == null || !Primality.isPrime(modulus)) {
             throw new IllegalArgumentException("Modulus must be a valid probable prime.");
         }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+        if (modulus.bitLength() >= Long.SIZE) {
+            throw new IllegalArgumentException("Modulus " + modulus + " is too large: field elements are stored as"
+                    + " longs, so the modulus must be below 2^63.");
+        }
 
         this.modulus = modulus;
-        this.elements = new HashSet<>();
-        populateField();
+        this.parallelism = parallelism;
+        if (table != null && coveredBy(modulus, table)) {
+            this.table = table;
+            Logger.info("PrimeField backed by prime table " + table.getPath() + ".");
+        } else {
+            if (table != null) {
+                Logger.warn("Prime table " + table.getPath() + " does not cover " + modulus + "; sieving instead.");
+            }
+            this.table = null;
+            this.elements = populateField();
+        }
+    }
+
+    private static int defaultParallelism(BigInteger modulus) {
+        if (modulus == null || modulus.bitLength() >= Long.SIZE) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        return ParallelPrimeSieve.defaultParallelism(modulus.longValue());
+    }
+
+    private static PrimeTable defaultTable(BigInteger modulus) {
+        if (modulus == null || modulus.bitLength() >= Long.SIZE || modulus.longValue() > PrimeTable.MAX_LIMIT) {
+            return null;
+        }
+        return PrimeTable.openDefault(modulus.longValue());
+    }
+
+    private static boolean coveredBy(BigInteger modulus, PrimeTable table) {
+        return modulus.bitLength() < Long.SIZE && modulus.longValue() <= table.getLimit();
     }
 
     /**
      * Populates the harmonic field with SpectralPrime elements modulo the modulus.
+     * Moduli within {@link PrimeSieve#MAX_LIMIT} are enumerated with the segmented sieve,
+     * in parallel when a parallelism above 1 is configured;
+     * larger moduli, which the constructor keeps below 2^63, fall back to BigInteger
+     * probable-prime stepping.
      */
-    private void populateField() {
-        BigInteger current = BigInteger.TWO;
-        while (current.compareTo(modulus) < 0) {
-            if (current.isProbablePrime(100)) {
-                try {
-                    elements.add(new SpectralPrime(current));
-                } catch (Exception e) {
-                    Logger.error("Error creating SpectralPrime: " + e.getMessage());
+    private SpectralPrimeTable populateField() {
+        long[] primes;
+        if (modulus.bitLength() < Long.SIZE && modulus.longValue() <= PrimeSieve.MAX_LIMIT) {
+            primes = new ParallelPrimeSieve(parallelism).primesBelow(modulus.longValue());
+        } else {
+            PrimeSieve.LongBuffer buffer = new PrimeSieve.LongBuffer(1024);
+            BigInteger current = BigInteger.TWO;
+            while (current.compareTo(modulus) < 0) {
+                if (Primality.isPrime(current)) {
+                    buffer.add(current.longValueExact());
                 }
+                current = current.nextProbablePrime();
             }
-            current = current.add(BigInteger.ONE);
+            primes = buffer.toArray();
+        }
+        SpectralPrimeTable populated = SpectralPrimeTable.of(primes);
+        Logger.info("PrimeField populated with " + populated.size() + " SpectralPrime elements.");
+        return populated;
+    }
+
+    /**
+     * Materializes the columnar elements of a table-backed field on first use.
+     */
+    private synchronized SpectralPrimeTable elements() {
+        if (elements == null) {
+            elements = SpectralPrimeTable.of(table.primesBelow(modulus.longValue()));
+            Logger.info("Materialized " + elements.size() + " SpectralPrime elements from prime table.");
         }
-        Logger.info("PrimeField populated with " + elements.size() + " SpectralPrime elements.");
+        return elements;
     }
 
     /**
@@ -59,7 +143,11 @@ public class PrimeField {
      * @return boolean
      */
     public boolean contains(SpectralPrime sp) {
-        return elements.contains(sp);
+        if (table != null) {
+            BigInteger value = sp.getPrimeValue();
+            return value.compareTo(modulus) < 0 && table.isPrime(value.longValue());
+        }
+        return elements.contains(sp.getPrimeValue());
     }
 
     /**
@@ -71,7 +159,7 @@ public class PrimeField {
     public SpectralPrime modularInverse(SpectralPrime sp) {
         try {
             BigInteger inv = sp.getPrimeValue().modInverse(modulus);
-            return new SpectralPrime(inv);
+            return SpectralPrime.of(inv);
         } catch (ArithmeticException ex) {
             Logger.warn("No modular inverse for: " + sp.getPrimeValue());
             return null;
@@ -87,7 +175,7 @@ public class PrimeField {
      */
     public SpectralPrime add(SpectralPrime a, SpectralPrime b) {
         BigInteger result = a.getPrimeValue().add(b.getPrimeValue()).mod(modulus);
-        return new SpectralPrime(result);
+        return SpectralPrime.of(result);
     }
 
     /**
@@ -99,7 +187,7 @@ public class PrimeField {
      */
     public SpectralPrime multiply(SpectralPrime a, SpectralPrime b) {
         BigInteger result = a.getPrimeValue().multiply(b.getPrimeValue()).mod(modulus);
-        return new SpectralPrime(result);
+        return SpectralPrime.of(result);
     }
 
     /**
@@ -108,6 +196,9 @@ public class PrimeField {
      * @return int
      */
     public int size() {
+        if (table != null) {
+            return Math.toIntExact(table.countBelow(modulus.longValue()));
+        }
         return elements.size();
     }
 
@@ -115,7 +206,30 @@ public class PrimeField {
         return modulus;
     }
 
+    /**
+     * Returns an unmodifiable, zero-copy view of the field elements in ascending order.
+     *
+     * @return Set of SpectralPrimes
+     */
     public Set<SpectralPrime> getElements() {
-        return new HashSet<>(elements);
+        return getSpectralTable().asSet();
+    }
+
+    /**
+     * Returns the columnar element table of this field.
+     *
+     * @return SpectralPrimeTable
+     */
+    public SpectralPrimeTable getSpectralTable() {
+        return table != null ? elements() : elements;
+    }
+
+    /**
+     * Returns the prime table backing this field, or {@code null} if it was sieved.
+     *
+     * @return PrimeTable or null
+     */
+    public PrimeTable getPrimeTable() {
+        return table;
     }
 }
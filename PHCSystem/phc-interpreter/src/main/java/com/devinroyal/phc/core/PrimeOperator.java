@@ -26,7 +26,7 @@ public final class PrimeOperator {
     public static SpectralPrime add(SpectralPrime a, SpectralPrime b) {
         try {
             BigInteger synthetic = a.getPrimeValue().add(b.getPrimeValue());
-            return new SpectralPrime(nextLikelyPrime(synthetic));
+            return SpectralPrime.trusted(nextLikelyPrime(synthetic));
         } catch (Exception e) {
             Logger.error("Error in PrimeOperator.add(): " + e.getMessage());
             throw new RuntimeException("Failed to add SpectralPrimes.");
@@ -42,11 +42,11 @@ public final class PrimeOperator {
      */
     public static SpectralPrime subtract(SpectralPrime a, SpectralPrime b) {
         BigInteger diff = a.getPrimeValue().subtract(b.getPrimeValue()).abs();
-        if (diff.compareTo(BigInteger.TWO) < 0 || !diff.isProbablePrime(80)) {
+        if (diff.compareTo(BigInteger.TWO) < 0 || !Primality.isPrime(diff)) {
             Logger.warn("Subtraction result is not a prime: " + diff);
             return null;
         }
-        return new SpectralPrime(diff);
+        return SpectralPrime.trusted(diff);
     }
 
     /**
@@ -58,7 +58,7 @@ public final class PrimeOperator {
      */
     public static SpectralPrime tensor(SpectralPrime a, SpectralPrime b) {
         BigInteger combined = a.getPrimeValue().multiply(b.getPrimeValue());
-        return new SpectralPrime(nextLikelyPrime(combined));
+        return SpectralPrime.trusted(nextLikelyPrime(combined));
     }
 
     /**
@@ -72,9 +72,12 @@ public final class PrimeOperator {
         List<SpectralPrime> results = new ArrayList<>();
         try {
             BigInteger base = sp.getPrimeValue();
+            BigInteger[] tiers = new BigInteger[Math.max(scalar, 0)];
             for (int i = 1; i <= scalar; i++) {
-                BigInteger p = base.multiply(BigInteger.valueOf(i));
-                results.add(new SpectralPrime(nextLikelyPrime(p)));
+                tiers[i - 1] = base.multiply(BigInteger.valueOf(i));
+            }
+            for (BigInteger p : PrimeSearch.nextPrimes(tiers)) {
+                results.add(SpectralPrime.trusted(p));
             }
         } catch (Exception e) {
             Logger.error("Error scaling SpectralPrime: " + e.getMessage());
@@ -82,6 +85,26 @@ public final class PrimeOperator {
         return results;
     }
 
+    /**
+     * Computes the harmonic tensor product of one SpectralPrime with many others,
+     * resolving all products in a single batched prime search.
+     *
+     * @param a      SpectralPrime
+     * @param others SpectralPrimes to fuse with {@code a}
+     * @return tensor-like fusions, in the order of {@code others}
+     */
+    public static List<SpectralPrime> tensor(SpectralPrime a, List<SpectralPrime> others) {
+        BigInteger[] products = new BigInteger[others.size()];
+        for (int i = 0; i < products.length; i++) {
+            products[i] = a.getPrimeValue().multiply(others.get(i).getPrimeValue());
+        }
+        List<SpectralPrime> results = new ArrayList<>(products.length);
+        for (BigInteger p : PrimeSearch.nextPrimes(products)) {
+            results.add(SpectralPrime.trusted(p));
+        }
+        return results;
+    }
+
     /**
      * Locates the next probable prime greater than or equal to the input.
      *
@@ -89,15 +112,7 @@ public final class PrimeOperator {
      * @return Next probable prime
      */
     public static BigInteger nextLikelyPrime(BigInteger candidate) {
-        if (candidate == null || candidate.compareTo(BigInteger.TWO) < 0) {
-            return BigInteger.TWO;
-        }
-
-        BigInteger current = candidate;
-        while (!current.isProbablePrime(100)) {
-            current = current.add(BigInteger.ONE);
-        }
-        return current;
+        return PrimeSearch.nextPrime(candidate);
     }
 
     private PrimeOperator() {
@@ -0,0 +1,259 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package core;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Candidate-window engine for locating the next prime at or above a start value.
+ * Values that fit in 63 bits are stepped over odd candidates with the deterministic
+ * {@link Primality} test. Larger values sieve a window of {@value #WINDOW} consecutive
+ * candidates against the first {@value #SMALL_PRIME_COUNT} primes and run strong tests
+ * only on the survivors; for inputs of {@value #PARALLEL_BITS} bits or more the
+ * survivors are tested on all cores. Window results are kept in the window rather than
+ * the shared {@link Primality} memo, so a search does not evict the memo's repeated
+ * candidates. The batch API sorts its start points and shares sieved windows and results
+ * between starts that fall close together.
+ */
+public final class PrimeSearch {
+
+    static final int WINDOW = 4096;
+    static final int SMALL_PRIME_COUNT = 2048;
+    static final int PARALLEL_BITS = 1024;
+
+    private static final BigInteger LONG_SEARCH_LIMIT = BigInteger.valueOf(Long.MAX_VALUE - WINDOW);
+
+    private PrimeSearch() {
+        throw new UnsupportedOperationException("PrimeSearch is a static utility class.");
+    }
+
+    /**
+     * Returns the smallest prime greater than or equal to {@code start}; 2 for anything below 2.
+     *
+     * @param start search origin
+     * @return next (probable) prime
+     */
+    public static BigInteger nextPrime(BigInteger start) {
+        if (start == null || start.compareTo(BigInteger.TWO) <= 0) {
+            return BigInteger.TWO;
+        }
+        if (start.compareTo(LONG_SEARCH_LIMIT) < 0) {
+            return BigInteger.valueOf(nextPrime(start.longValue()));
+        }
+        return new Window(start, start.bitLength() >= PARALLEL_BITS).search(start);
+    }
+
+    /**
+     * Returns the smallest prime greater than or equal to {@code start}, for starts that
+     * leave room below {@link Long#MAX_VALUE}.
+     *
+     * @param start search origin
+     * @return next prime
+     */
+    public static long nextPrime(long start) {
+        if (start <= 2) {
+            return 2;
+        }
+        long candidate = start | 1L;
+        while (!Primality.isPrime(candidate)) {
+            candidate += 2;
+        }
+        return candidate;
+    }
+
+    /**
+     * Resolves many start points in one pass. Starts are sorted and grouped into clusters
+     * whose members lie within one window of each other; each cluster reuses its sieved
+     * windows and any prime already found for a smaller start. Independent clusters of
+     * large inputs are searched in parallel.
+     *
+     * @param origins search origins; {@code null} entries resolve to 2
+     * @return next prime for each start, in input order
+     */
+    public static BigInteger[] nextPrimes(BigInteger[] origins) {
+        BigInteger[] starts = new BigInteger[origins.length];
+        BigInteger[] results = new BigInteger[origins.length];
+        Integer[] order = new Integer[origins.length];
+        for (int i = 0; i < origins.length; i++) {
+            order[i] = i;
+            starts[i] = origins[i] == null ? BigInteger.ONE : origins[i];
+        }
+        Arrays.sort(order, Comparator.comparing(i -> starts[i]));
+
+        List<int[]> clusters = new ArrayList<>();
+        int clusterStart = 0;
+        for (int k = 1; k <= order.length; k++) {
+            if (k == order.length || starts[order[k]].subtract(starts[order[k - 1]])
+                    .compareTo(BigInteger.valueOf(WINDOW)) > 0) {
+                clusters.add(new int[]{clusterStart, k});
+                clusterStart = k;
+            }
+        }
+
+        boolean large = order.length > 0 && starts[order[0]].bitLength() >= PARALLEL_BITS;
+        IntStream indices = IntStream.range(0, clusters.size());
+        if (large && clusters.size() > 1) {
+            indices = indices.parallel();
+        }
+        boolean parallelSurvivors = large && clusters.size() == 1;
+        indices.forEach(c -> searchCluster(starts, order, clusters.get(c), results, parallelSurvivors));
+        return results;
+    }
+
+    private static void searchCluster(BigInteger[] starts, Integer[] order, int[] range,
+                                      BigInteger[] results, boolean parallelSurvivors) {
+        BigInteger lastPrime = null;
+        Window window = null;
+        for (int k = range[0]; k < range[1]; k++) {
+            BigInteger start = starts[order[k]];
+            if (lastPrime != null && start.compareTo(lastPrime) <= 0) {
+                results[order[k]] = lastPrime; // lastPrime is the next prime for every start up to it
+                continue;
+            }
+            if (start.compareTo(LONG_SEARCH_LIMIT) < 0) {
+                lastPrime = nextPrime(start);
+            } else {
+                if (window == null || !window.covers(start)) {
+                    window = new Window(start, parallelSurvivors);
+                }
+                lastPrime = window.search(start);
+            }
+            results[order[k]] = lastPrime;
+        }
+    }
+
+    /**
+     * A sliding block of WINDOW consecutive candidates above 2^63, pre-sieved by small primes.
+     * Strong-test outcomes are remembered per offset while the window stays in place.
+     */
+    private static final class Window {
+        private static final byte UNKNOWN = 0;
+        private static final byte PRIME = 1;
+        private static final byte COMPOSITE = 2;
+
+        private final boolean parallelSurvivors;
+        private final byte[] state = new byte[WINDOW];
+        private BigInteger base;
+
+        Window(BigInteger base, boolean parallelSurvivors) {
+            this.parallelSurvivors = parallelSurvivors;
+            slideTo(base);
+        }
+
+        boolean covers(BigInteger value) {
+            BigInteger offset = value.subtract(base);
+            return offset.signum() >= 0 && offset.compareTo(BigInteger.valueOf(WINDOW)) < 0;
+        }
+
+        BigInteger search(BigInteger start) {
+            int offset = start.subtract(base).intValueExact();
+            while (true) {
+                int found = parallelSurvivors ? firstPrimeParallel(offset) : firstPrime(offset);
+                if (found >= 0) {
+                    return base.add(BigInteger.valueOf(found));
+                }
+                slideTo(base.add(BigInteger.valueOf(WINDOW)));
+                offset = 0;
+            }
+        }
+
+        private int firstPrime(int from) {
+            for (int i = from; i < WINDOW; i++) {
+                if (state[i] == UNKNOWN) {
+                    state[i] = Primality.testUncached(base.add(BigInteger.valueOf(i))) ? PRIME : COMPOSITE;
+                }
+                if (state[i] == PRIME) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int firstPrimeParallel(int from) {
+            int[] pending = new int[Math.max(2, Runtime.getRuntime().availableProcessors())];
+            int i = from;
+            while (i < WINDOW) {
+                int count = 0;
+                int end = i;
+                while (end < WINDOW && count < pending.length && state[end] != PRIME) {
+                    if (state[end] == UNKNOWN) {
+                        pending[count++] = end;
+                    }
+                    end++;
+                }
+                final int tested = count;
+                IntStream.range(0, tested).parallel().forEach(j -> state[pending[j]] =
+                        Primality.testUncached(base.add(BigInteger.valueOf(pending[j]))) ? PRIME : COMPOSITE);
+                for (int k = i; k < end; k++) {
+                    if (state[k] == PRIME) {
+                        return k;
+                    }
+                }
+                if (end < WINDOW && state[end] == PRIME) {
+                    return end;
+                }
+                i = end;
+            }
+            return -1;
+        }
+
+        private void slideTo(BigInteger newBase) {
+            base = newBase;
+            Arrays.fill(state, UNKNOWN);
+            int[] primes = SmallPrimes.PRIMES;
+            long[] products = SmallPrimes.PRODUCTS;
+            int[] groupEnds = SmallPrimes.GROUP_ENDS;
+            int p0 = 0;
+            for (int g = 0; g < products.length; g++) {
+                long groupResidue = base.mod(BigInteger.valueOf(products[g])).longValue();
+                for (int k = p0; k < groupEnds[g]; k++) {
+                    int p = primes[k];
+                    int residue = (int) (groupResidue % p);
+                    for (int i = residue == 0 ? 0 : p - residue; i < WINDOW; i += p) {
+                        state[i] = COMPOSITE;
+                    }
+                }
+                p0 = groupEnds[g];
+            }
+        }
+    }
+
+    /**
+     * The first SMALL_PRIME_COUNT primes, grouped so each group's product fits in a long
+     * and a window's residues need one BigInteger division per group instead of per prime.
+     */
+    private static final class SmallPrimes {
+        static final int[] PRIMES;
+        static final long[] PRODUCTS;
+        static final int[] GROUP_ENDS;
+
+        static {
+            long[] first = PrimeSieve.firstPrimes(SMALL_PRIME_COUNT);
+            PRIMES = new int[first.length];
+            List<Long> products = new ArrayList<>();
+            List<Integer> ends = new ArrayList<>();
+            long product = 1;
+            for (int i = 0; i < first.length; i++) {
+                PRIMES[i] = (int) first[i];
+                if (product > Long.MAX_VALUE / first[i]) {
+                    products.add(product);
+                    ends.add(i);
+                    product = 1;
+                }
+                product *= first[i];
+            }
+            products.add(product);
+            ends.add(first.length);
+            PRODUCTS = products.stream().mapToLong(Long::longValue).toArray();
+            GROUP_ENDS = ends.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package core;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Segmented Sieve of Eratosthenes used to enumerate the prime basis of PHC fields.
+ * Segments are sized to stay resident in L1 cache and only odd candidates are stored,
+ * one bit per odd integer, so a 32 KiB segment covers a span of 512 Ki integers.
+ * Primes are produced in ascending order, one segment at a time, without holding the
+ * full range in memory.
+ */
+public final class PrimeSieve {
+
+    /** Largest supported exclusive upper bound (2^40). */
+    public static final long MAX_LIMIT = 1L << 40;
+
+    /** Bytes of odd-only bitset per segment, sized for a typical L1 data cache. */
+    static final int SEGMENT_BYTES = 32 * 1024;
+
+    /** Number of integers covered by a single segment. */
+    static final long SEGMENT_SPAN = SEGMENT_BYTES * 8L * 2L;
+
+    static final int WORDS_PER_SEGMENT = SEGMENT_BYTES / Long.BYTES;
+
+    private PrimeSieve() {
+        throw new UnsupportedOperationException("PrimeSieve is a static utility class.");
+    }
+
+    /**
+     * Streams every prime strictly below {@code limit}, in ascending order.
+     *
+     * @param limit  exclusive upper bound, at most {@link #MAX_LIMIT}
+     * @param action consumer receiving each prime
+     */
+    public static void forEachPrime(long limit, LongConsumer action) {
+        checkLimit(limit);
+        if (limit <= 2) {
+            return;
+        }
+        action.accept(2L);
+
+        long[] basePrimes = oddBasePrimes(limit);
+        long[] bits = new long[WORDS_PER_SEGMENT];
+        for (long low = 0; low < limit; low += SEGMENT_SPAN) {
+            long high = Math.min(low + SEGMENT_SPAN, limit);
+            sieveSegment(low, high, basePrimes, bits);
+            emitSegment(low, high, bits, action);
+        }
+    }
+
+    /**
+     * Returns every prime strictly below {@code limit} as a sorted array.
+     *
+     * @param limit exclusive upper bound, at most {@link #MAX_LIMIT}
+     * @return ascending primes below the limit
+     */
+    public static long[] primesBelow(long limit) {
+        checkLimit(limit);
+        LongBuffer buffer = new LongBuffer(estimateCount(limit));
+        forEachPrime(limit, buffer::add);
+        return buffer.toArray();
+    }
+
+    /**
+     * Returns the first {@code count} primes as a sorted array.
+     *
+     * @param count number of primes requested
+     * @return ascending array of the first {@code count} primes
+     */
+    public static long[] firstPrimes(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Prime count must be non-negative.");
+        }
+        long[] all = primesBelow(upperBoundForCount(count));
+        return all.length == count ? all : Arrays.copyOf(all, count);
+    }
+
+    /**
+     * Returns an exclusive bound guaranteed to contain at least {@code count} primes,
+     * using Rosser's bound p_n &lt; n(ln n + ln ln n) for n &ge; 6.
+     *
+     * @param count number of primes required
+     * @return exclusive sieve limit
+     */
+    public static long upperBoundForCount(int count) {
+        if (count < 6) {
+            return 14;
+        }
+        double n = count;
+        double bound = n * (Math.log(n) + Math.log(Math.log(n)));
+        return Math.min(MAX_LIMIT, (long) Math.ceil(bound) + 1);
+    }
+
+    /**
+     * Rough capacity hint for the number of primes below {@code limit} (x / (ln x - 1.1)).
+     */
+    static int estimateCount(long limit) {
+        if (limit < 64) {
+            return 32;
+        }
+        double estimate = limit / (Math.log(limit) - 1.1);
+        return (int) Math.min(Integer.MAX_VALUE - 8, (long) estimate + 16);
+    }
+
+    /**
+     * Sieves the odd primes up to sqrt(limit) with a plain odd-only sieve; these are the
+     * only primes needed to cross off composites in any segment below {@code limit}.
+     */
+    static long[] oddBasePrimes(long limit) {
+        int root = (int) Math.sqrt((double) limit);
+        while ((long) (root + 1) * (root + 1) <= limit) {
+            root++;
+        }
+        if (root < 3) {
+            return new long[0];
+        }
+        // index i represents the odd number 2i + 1
+        boolean[] composite = new boolean[root / 2 + 1];
+        LongBuffer primes = new LongBuffer(estimateCount(root + 1L));
+        for (int i = 1; 2 * i + 1 <= root; i++) {
+            if (composite[i]) {
+                continue;
+            }
+            long p = 2L * i + 1;
+            primes.add(p);
+            for (long j = p * p / 2; j < composite.length; j += p) {
+                composite[(int) j] = true;
+            }
+        }
+        return primes.toArray();
+    }
+
+    /**
+     * Marks composites in the half-open range [low, high). After the call, bit k of
+     * {@code bits} is clear iff the odd number low + 2k + 1 is prime. {@code low} must be even.
+     */
+    static void sieveSegment(long low, long high, long[] basePrimes, long[] bits) {
+        int oddCount = (int) ((high - low) / 2);
+        int words = (oddCount + 63) >>> 6;
+        Arrays.fill(bits, 0, words, 0L);
+
+        for (long p : basePrimes) {
+            long square = p * p;
+            if (square >= high) {
+                break;
+            }
+            long start = square >= low ? square : ((low + p - 1) / p) * p;
+            if ((start & 1L) == 0) {
+                start += p;
+            }
+            for (long j = (start - low - 1) >>> 1; j < oddCount; j += p) {
+                bits[(int) (j >>> 6)] |= 1L << j;
+            }
+        }
+        if (low == 0) {
+            bits[0] |= 1L; // 1 is not prime
+        }
+        int tail = oddCount & 63;
+        if (tail != 0) {
+            bits[words - 1] |= -1L << tail;
+        }
+    }
+
+    /**
+     * Sieves [low, high) and returns the odd primes of the segment in ascending order.
+     */
+    static long[] segmentPrimes(long low, long high, long[] basePrimes, long[] bits) {
+        sieveSegment(low, high, basePrimes, bits);
+        int words = (int) (((high - low) / 2 + 63) >>> 6);
+        int count = 0;
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(~bits[w]);
+        }
+        long[] primes = new long[count];
+        int index = 0;
+        for (int w = 0; w < words; w++) {
+            long clear = ~bits[w];
+            while (clear != 0) {
+                int bit = Long.numberOfTrailingZeros(clear);
+                primes[index++] = low + 2L * ((long) (w << 6) + bit) + 1;
+                clear &= clear - 1;
+            }
+        }
+        return primes;
+    }
+
+    private static void emitSegment(long low, long high, long[] bits, LongConsumer action) {
+        int words = (int) (((high - low) / 2 + 63) >>> 6);
+        for (int w = 0; w < words; w++) {
+            long clear = ~bits[w];
+            while (clear != 0) {
+                int bit = Long.numberOfTrailingZeros(clear);
+                action.accept(low + 2L * ((long) (w << 6) + bit) + 1);
+                clear &= clear - 1;
+            }
+        }
+    }
+
+    static void checkLimit(long limit) {
+        if (limit < 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Sieve limit must be within [0, 2^40].");
+        }
+    }
+
+    /**
+     * Minimal growable primitive buffer, avoiding boxed collections for prime lists.
+     */
+    static final class LongBuffer {
+        private long[] data;
+        private int size;
+
+        LongBuffer(int capacity) {
+            this.data = new long[Math.max(capacity, 8)];
+        }
+
+        void add(long value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, (int) Math.min(Integer.MAX_VALUE - 8, data.length * 2L));
+            }
+            data[size++] = value;
+        }
+
+        void addAll(long[] values) {
+            if (size + values.length > data.length) {
+                data = Arrays.copyOf(data, Math.max(size + values.length, data.length * 2));
+            }
+            System.arraycopy(values, 0, data, size, values.length);
+            size += values.length;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] toArray() {
+            return size == data.length ? data : Arrays.copyOf(data, size);
+        }
+    }
+}
@@ -0,0 +1,563 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32C;
+import util.Logger;
+
+/**
+ * Persistent, memory-mapped prime table stored as a mod-30 wheel bitmap.
+ * Each byte covers 30 consecutive integers and holds one bit per residue coprime to 30
+ * (1, 7, 11, 13, 17, 19, 23, 29); the primes 2, 3 and 5 are implicit. A rank index of
+ * cumulative prime counts every {@value #INDEX_STRIDE} bytes bounds counting: at most
+ * {@value #INDEX_STRIDE} bitmap bytes are scanned per count.
+ *
+ * <p>File layout (big-endian):
+ * <pre>
+ *   0  magic "PHCPRIME"      8 bytes
+ *   8  format version        int
+ *  12  wheel modulus (30)    int
+ *  16  covered limit         long  (exclusive, multiple of 30)
+ *  24  prime count           long  (primes below the limit)
+ *  32  bitmap length         long  (bytes)
+ *  40  index length          long  (entries)
+ *  48  CRC32C of payload     long
+ *  56  reserved              8 bytes
+ *  64  bitmap, then index
+ * </pre>
+ *
+ * <p>The table is generated once with {@link #generate(Path, long)} and opened through
+ * {@link FileChannel#map}, so lookups read straight from the page cache and nothing is
+ * materialized on the heap.
+ */
+public final class PrimeTable {
+
+    /** System property naming the default table file. */
+    public static final String PATH_PROPERTY = "phc.primeTable";
+
+    /** Current on-disk format version. */
+    public static final int FORMAT_VERSION = 1;
+
+    /** Largest limit a table can cover: the sieve bound rounded down to a wheel multiple. */
+    public static final long MAX_LIMIT = PrimeSieve.MAX_LIMIT / WheelHolder.WHEEL * WheelHolder.WHEEL;
+
+    static final int INDEX_STRIDE = 4096;
+
+    private static final byte[] MAGIC = "PHCPRIME".getBytes(StandardCharsets.US_ASCII);
+    private static final int HEADER_BYTES = 64;
+    private static final int MAP_CHUNK_BITS = 30;
+    private static final long MAP_CHUNK = 1L << MAP_CHUNK_BITS;
+
+    private static final ConcurrentHashMap<Path, DefaultTable> DEFAULT_TABLES = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final long limit;
+    private final long primeCount;
+    private final long bitmapLength;
+    private final MappedByteBuffer[] bitmap;
+    private final LongBuffer index;
+
+    private PrimeTable(Path path, long limit, long primeCount, long bitmapLength,
+                       MappedByteBuffer[] bitmap, LongBuffer index) {
+        this.path = path;
+        this.limit = limit;
+        this.primeCount = primeCount;
+        this.bitmapLength = bitmapLength;
+        this.bitmap = bitmap;
+        this.index = index;
+    }
+
+    /**
+     * Sieves every prime below {@code limit} and writes the table to {@code path}.
+     * The file is written to a sibling temporary file and moved into place atomically.
+     *
+     * @param path  destination file
+     * @param limit exclusive bound to cover, rounded up to a multiple of 30
+     * @return the freshly opened table
+     * @throws IOException if the file cannot be written
+     */
+    public static PrimeTable generate(Path path, long limit) throws IOException {
+        if (limit < 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Prime table limit must be within [0, " + MAX_LIMIT + "].");
+        }
+        long blocks = (limit + WheelHolder.WHEEL - 1) / WheelHolder.WHEEL;
+        long covered = blocks * WheelHolder.WHEEL;
+        long[] rankIndex = new long[(int) ((blocks + INDEX_STRIDE - 1) / INDEX_STRIDE)];
+
+        Path absolute = path.toAbsolutePath();
+        if (absolute.getParent() != null) {
+            Files.createDirectories(absolute.getParent());
+        }
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        CRC32C crc = new CRC32C();
+        BitmapWriter writer;
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            out.write(new byte[HEADER_BYTES]);
+            writer = new BitmapWriter(out, crc, rankIndex);
+            new ParallelPrimeSieve(ParallelPrimeSieve.defaultParallelism(covered))
+                    .forEachPrime(covered, writer);
+            writer.finish(blocks);
+
+            ByteBuffer indexBytes = ByteBuffer.allocate(rankIndex.length * Long.BYTES);
+            indexBytes.asLongBuffer().put(rankIndex);
+            crc.update(indexBytes.array(), 0, indexBytes.capacity());
+            out.write(indexBytes.array());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.put(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(WheelHolder.WHEEL)
+                .putLong(covered)
+                .putLong(writer.primeCount)
+                .putLong(blocks)
+                .putLong(rankIndex.length)
+                .putLong(crc.getValue());
+        header.rewind();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.write(header, 0);
+            channel.force(true);
+        }
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Logger.info("Generated prime table " + absolute + " covering " + covered
+                + " with " + writer.primeCount + " primes.");
+        return open(absolute);
+    }
+
+    /**
+     * Opens and fully validates a prime table.
+     *
+     * @param path table file
+     * @return the mapped table
+     * @throws IOException if the file is unreadable, of another version, or corrupt
+     */
+    public static PrimeTable open(Path path) throws IOException {
+        return open(path, true);
+    }
+
+    /**
+     * Opens a prime table, optionally skipping the payload checksum.
+     *
+     * @param path           table file
+     * @param verifyChecksum whether to verify the CRC32C of the bitmap and index
+     * @return the mapped table
+     * @throws IOException if the file is unreadable, of another version, or corrupt
+     */
+    public static PrimeTable open(Path path, boolean verifyChecksum) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES) {
+                throw new IOException("Prime table too short: " + path);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // read fully
+            }
+            header.flip();
+
+            byte[] magic = new byte[MAGIC.length];
+            header.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("Not a PHC prime table: " + path);
+            }
+            int version = header.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported prime table version " + version + " in " + path);
+            }
+            if (header.getInt() != WheelHolder.WHEEL) {
+                throw new IOException("Unsupported wheel in " + path);
+            }
+            long limit = header.getLong();
+            long primeCount = header.getLong();
+            long bitmapLength = header.getLong();
+            long indexLength = header.getLong();
+            long checksum = header.getLong();
+
+            if (limit != bitmapLength * WheelHolder.WHEEL
+                    || indexLength != (bitmapLength + INDEX_STRIDE - 1) / INDEX_STRIDE
+                    || fileSize != HEADER_BYTES + bitmapLength + indexLength * Long.BYTES) {
+                throw new IOException("Inconsistent prime table header in " + path);
+            }
+
+            int chunks = (int) ((bitmapLength + MAP_CHUNK - 1) >>> MAP_CHUNK_BITS);
+            MappedByteBuffer[] bitmap = new MappedByteBuffer[chunks];
+            for (int c = 0; c < chunks; c++) {
+                long offset = (long) c << MAP_CHUNK_BITS;
+                long size = Math.min(MAP_CHUNK, bitmapLength - offset);
+                bitmap[c] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + offset, size);
+            }
+            MappedByteBuffer indexMap = channel.map(FileChannel.MapMode.READ_ONLY,
+                    HEADER_BYTES + bitmapLength, indexLength * Long.BYTES);
+
+            if (verifyChecksum) {
+                CRC32C crc = new CRC32C();
+                for (MappedByteBuffer chunk : bitmap) {
+                    crc.update(chunk.duplicate());
+                }
+                crc.update(indexMap.duplicate());
+                if (crc.getValue() != checksum) {
+                    throw new IOException("Prime table checksum mismatch in " + path);
+                }
+            }
+            return new PrimeTable(path, limit, primeCount, bitmapLength, bitmap, indexMap.asLongBuffer());
+        }
+    }
+
+    /**
+     * Opens the table at {@code path} if it is valid and covers {@code requiredLimit}.
+     * Any problem is logged and reported as {@code null} so callers can fall back to sieving.
+     *
+     * @param path          table file, may be {@code null}
+     * @param requiredLimit exclusive bound the caller needs
+     * @return the table, or {@code null} if it is missing, invalid or too small
+     */
+    public static PrimeTable openIfCovers(Path path, long requiredLimit) {
+        if (path == null) {
+            return null;
+        }
+        if (!Files.isRegularFile(path)) {
+            Logger.warn("Prime table " + path + " not found; falling back to sieving.");
+            return null;
+        }
+        try {
+            PrimeTable table = open(path);
+            if (table.limit < requiredLimit) {
+                Logger.warn("Prime table " + path + " covers " + table.limit
+                        + " but " + requiredLimit + " is required; falling back to sieving.");
+                return null;
+            }
+            return table;
+        } catch (IOException e) {
+            Logger.warn("Prime table " + path + " rejected: " + e.getMessage() + "; falling back to sieving.");
+            return null;
+        }
+    }
+
+    /**
+     * Opens the table named by the {@value #PATH_PROPERTY} system property, if any.
+     * The table is opened and verified once per file; later calls reuse it until the file
+     * is replaced, and a rejected file is likewise reported once.
+     *
+     * @param requiredLimit exclusive bound the caller needs
+     * @return the table, or {@code null} if unset, missing, invalid or too small
+     */
+    public static PrimeTable openDefault(long requiredLimit) {
+        String configured = System.getProperty(PATH_PROPERTY);
+        if (configured == null || configured.isEmpty()) {
+            return null;
+        }
+        Path path = Paths.get(configured).toAbsolutePath();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            attributes = null;
+        }
+        if (attributes == null || !attributes.isRegularFile()) {
+            DEFAULT_TABLES.remove(path);
+            Logger.warn("Prime table " + path + " not found; falling back to sieving.");
+            return null;
+        }
+        BasicFileAttributes current = attributes;
+        DefaultTable opened = DEFAULT_TABLES.get(path);
+        if (opened == null || !opened.isFor(current)) {
+            opened = DEFAULT_TABLES.compute(path, (p, old) -> old != null && old.isFor(current) ? old : DefaultTable.open(p, current));
+        }
+        PrimeTable table = opened.table;
+        if (table != null && table.limit < requiredLimit) {
+            Logger.warn("Prime table " + path + " covers " + table.limit
+                    + " but " + requiredLimit + " is required; falling back to sieving.");
+            return null;
+        }
+        return table;
+    }
+
+    /**
+     * Tests membership of {@code n} in the table.
+     *
+     * @param n value below {@link #getLimit()}
+     * @return true if {@code n} is prime
+     */
+    public boolean isPrime(long n) {
+        if (n < 0 || n >= limit) {
+            throw new IllegalArgumentException(n + " is outside the prime table range [0, " + limit + ").");
+        }
+        if (n < 7) {
+            return n == 2 || n == 3 || n == 5;
+        }
+        int bit = WheelHolder.BIT_OF_RESIDUE[(int) (n % WheelHolder.WHEEL)];
+        return bit >= 0 && (byteAt(n / WheelHolder.WHEEL) & (1 << bit)) != 0;
+    }
+
+    /**
+     * Counts the primes strictly below {@code n}.
+     *
+     * @param n exclusive bound, at most {@link #getLimit()}
+     * @return number of primes below {@code n}
+     */
+    public long countBelow(long n) {
+        if (n < 0 || n > limit) {
+            throw new IllegalArgumentException(n + " is outside the prime table range [0, " + limit + "].");
+        }
+        if (n == limit) {
+            return primeCount;
+        }
+        long count = (n > 2 ? 1 : 0) + (n > 3 ? 1 : 0) + (n > 5 ? 1 : 0);
+        long block = n / WheelHolder.WHEEL;
+        int residue = (int) (n % WheelHolder.WHEEL);
+        long stride = block / INDEX_STRIDE;
+        if (stride < index.limit()) {
+            count += index.get((int) stride);
+        }
+        for (long b = stride * INDEX_STRIDE; b < block; b++) {
+            count += Integer.bitCount(byteAt(b));
+        }
+        if (residue != 0) {
+            count += Integer.bitCount(byteAt(block) & WheelHolder.MASK_BELOW[residue]);
+        }
+        return count;
+    }
+
+    /**
+     * Streams the primes in [from, to) in ascending order.
+     *
+     * @param from   inclusive lower bound
+     * @param to     exclusive upper bound, at most {@link #getLimit()}
+     * @param action consumer receiving each prime
+     */
+    public void forEachPrime(long from, long to, LongConsumer action) {
+        if (from < 0 || to > limit || from > to) {
+            throw new IllegalArgumentException("Range [" + from + ", " + to + ") is outside the prime table.");
+        }
+        for (long small : WheelHolder.SMALL_PRIMES) {
+            if (small >= from && small < to) {
+                action.accept(small);
+            }
+        }
+        long lastBlock = (to + WheelHolder.WHEEL - 1) / WheelHolder.WHEEL;
+        for (long b = from / WheelHolder.WHEEL; b < lastBlock; b++) {
+            int bits = byteAt(b);
+            long base = b * WheelHolder.WHEEL;
+            while (bits != 0) {
+                int bit = Integer.numberOfTrailingZeros(bits);
+                long p = base + WheelHolder.RESIDUES[bit];
+                if (p >= to) {
+                    return;
+                }
+                if (p >= from) {
+                    action.accept(p);
+                }
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the first {@code count} primes of the table.
+     *
+     * @param count number of primes, at most {@link #getPrimeCount()}
+     * @return ascending array of primes
+     */
+    public long[] firstPrimes(int count) {
+        if (count < 0 || count > primeCount) {
+            throw new IllegalArgumentException("Prime table holds " + primeCount + " primes; " + count + " requested.");
+        }
+        long[] primes = new long[count];
+        int[] filled = {0};
+        long bound = PrimeSieve.upperBoundForCount(count);
+        forEachPrime(0, Math.min(bound, limit), p -> {
+            if (filled[0] < primes.length) {
+                primes[filled[0]++] = p;
+            }
+        });
+        return primes;
+    }
+
+    /**
+     * Returns every prime strictly below {@code n} as a sorted array.
+     *
+     * @param n exclusive bound, at most {@link #getLimit()}
+     * @return ascending primes below {@code n}
+     */
+    public long[] primesBelow(long n) {
+        long[] primes = new long[Math.toIntExact(countBelow(n))];
+        int[] filled = {0};
+        forEachPrime(0, n, p -> primes[filled[0]++] = p);
+        return primes;
+    }
+
+    private int byteAt(long block) {
+        return bitmap[(int) (block >>> MAP_CHUNK_BITS)].get((int) (block & (MAP_CHUNK - 1))) & 0xFF;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    public long getPrimeCount() {
+        return primeCount;
+    }
+
+    public long getBitmapLength() {
+        return bitmapLength;
+    }
+
+    /**
+     * A default table opened from one version of its file, or {@code null} if that version was rejected.
+     */
+    private static final class DefaultTable {
+        private final Object fileKey;
+        private final long size;
+        private final long modified;
+        private final PrimeTable table;
+
+        private DefaultTable(BasicFileAttributes attributes, PrimeTable table) {
+            this.fileKey = attributes.fileKey();
+            this.size = attributes.size();
+            this.modified = attributes.lastModifiedTime().toMillis();
+            this.table = table;
+        }
+
+        static DefaultTable open(Path path, BasicFileAttributes attributes) {
+            try {
+                return new DefaultTable(attributes, PrimeTable.open(path));
+            } catch (IOException e) {
+                Logger.warn("Prime table " + path + " rejected: " + e.getMessage() + "; falling back to sieving.");
+                return new DefaultTable(attributes, null);
+            }
+        }
+
+        boolean isFor(BasicFileAttributes attributes) {
+            return Objects.equals(fileKey, attributes.fileKey()) && size == attributes.size()
+                    && modified == attributes.lastModifiedTime().toMillis();
+        }
+    }
+
+    /**
+     * Collects sieved primes into wheel bytes, streaming them to the output together with
+     * the running checksum and rank index.
+     */
+    private static final class BitmapWriter implements LongConsumer {
+        private final OutputStream out;
+        private final CRC32C crc;
+        private final long[] rankIndex;
+        private final byte[] buffer = new byte[1 << 16];
+        private int buffered;
+        private long block;
+        private int current;
+        private long wheelPrimes;
+        private long primeCount;
+        private IOException failure;
+
+        BitmapWriter(OutputStream out, CRC32C crc, long[] rankIndex) {
+            this.out = out;
+            this.crc = crc;
+            this.rankIndex = rankIndex;
+        }
+
+        @Override
+        public void accept(long p) {
+            primeCount++;
+            int bit = WheelHolder.BIT_OF_RESIDUE[(int) (p % WheelHolder.WHEEL)];
+            if (bit < 0) {
+                return; // 2, 3 and 5 are implicit
+            }
+            long target = p / WheelHolder.WHEEL;
+            while (block < target) {
+                emit();
+            }
+            current |= 1 << bit;
+        }
+
+        void finish(long blocks) throws IOException {
+            while (block < blocks) {
+                emit();
+            }
+            flush();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private void emit() {
+            if (block % INDEX_STRIDE == 0) {
+                rankIndex[(int) (block / INDEX_STRIDE)] = wheelPrimes;
+            }
+            wheelPrimes += Integer.bitCount(current);
+            buffer[buffered++] = (byte) current;
+            current = 0;
+            block++;
+            if (buffered == buffer.length) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (buffered == 0 || failure != null) {
+                buffered = 0;
+                return;
+            }
+            crc.update(buffer, 0, buffered);
+            try {
+                out.write(buffer, 0, buffered);
+            } catch (IOException e) {
+                failure = e;
+            }
+            buffered = 0;
+        }
+    }
+
+    /**
+     * Static mod-30 wheel tables.
+     */
+    private static final class WheelHolder {
+        static final int WHEEL = 30;
+        static final int[] RESIDUES = {1, 7, 11, 13, 17, 19, 23, 29};
+        static final long[] SMALL_PRIMES = {2, 3, 5};
+        static final int[] BIT_OF_RESIDUE = new int[WHEEL];
+        static final int[] MASK_BELOW = new int[WHEEL];
+
+        static {
+            Arrays.fill(BIT_OF_RESIDUE, -1);
+            for (int i = 0; i < RESIDUES.length; i++) {
+                BIT_OF_RESIDUE[RESIDUES[i]] = i;
+            }
+            for (int r = 0; r < WHEEL; r++) {
+                int mask = 0;
+                for (int i = 0; i < RESIDUES.length; i++) {
+                    if (RESIDUES[i] < r) {
+                        mask |= 1 << i;
+                    }
+                }
+                MASK_BELOW[r] = mask;
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package core;
+
+/**
+ * Reusable real-input FFT plan for spectral signatures, such as the rows produced by
+ * {@link SpectralPrime#generateSpectralSignature(int)} or {@link SpectralSignatures}.
+ *
+ * <p>A real signal of length n has a Hermitian spectrum, so only bins 0..n/2 are returned,
+ * interleaved as {@code (re, im)} pairs: {@link #spectrumLength()} = 2 (n/2 + 1) doubles.
+ * For even n the signal is packed into a complex sequence of length n/2, transformed,
+ * and split back into the real spectrum, roughly halving the work; odd n uses a full
+ * complex transform. Any length is accepted, with powers of two being fastest.
+ *
+ * <p>All buffers are allocated when the plan is created and twiddle tables are shared
+ * between plans of the same length, so transforms do not allocate. A plan owns mutable
+ * scratch and is not thread-safe; use one plan per thread.
+ */
+public final class RealFFT {
+
+    private final int n;
+    private final ComplexFFT complex;
+    private final double[] split;
+    private final double[] re;
+    private final double[] im;
+
+    /**
+     * Creates a plan for signals of {@code n} samples.
+     *
+     * @param n signal length, at least 1
+     */
+    public RealFFT(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("FFT length must be positive.");
+        }
+        this.n = n;
+        int m = n % 2 == 0 ? n / 2 : n;
+        this.complex = new ComplexFFT(m);
+        this.split = n % 2 == 0 ? ComplexFFT.twiddles(n) : null;
+        this.re = new double[m];
+        this.im = new double[m];
+    }
+
+    /** @return signal length handled by this plan */
+    public int length() {
+        return n;
+    }
+
+    /** @return number of doubles in one interleaved half spectrum */
+    public int spectrumLength() {
+        return 2 * (n / 2 + 1);
+    }
+
+    /**
+     * Transforms one signal into its interleaved half spectrum.
+     *
+     * @param signal   {@link #length()} samples
+     * @param spectrum destination of {@link #spectrumLength()} doubles
+     */
+    public void forward(double[] signal, double[] spectrum) {
+        forward(signal, 0, spectrum, 0);
+    }
+
+    /**
+     * Transforms the {@link #length()} samples at {@code signalOffset} into the half spectrum
+     * written at {@code spectrumOffset}.
+     *
+     * @param signal         source samples
+     * @param signalOffset   index of the first sample
+     * @param spectrum       destination array
+     * @param spectrumOffset index of the real part of bin 0
+     */
+    public void forward(double[] signal, int signalOffset, double[] spectrum, int spectrumOffset) {
+        if (split == null) {
+            for (int j = 0; j < n; j++) {
+                re[j] = signal[signalOffset + j];
+                im[j] = 0.0;
+            }
+            complex.forward(re, im);
+            for (int k = 0; k <= n / 2; k++) {
+                spectrum[spectrumOffset + 2 * k] = re[k];
+                spectrum[spectrumOffset + 2 * k + 1] = im[k];
+            }
+            return;
+        }
+
+        int h = n / 2;
+        for (int j = 0; j < h; j++) {
+            re[j] = signal[signalOffset + 2 * j];
+            im[j] = signal[signalOffset + 2 * j + 1];
+        }
+        complex.forward(re, im);
+        // X[k] = E[k] + W^k O[k], with E and O recovered from Z[k] and conj(Z[h - k])
+        for (int k = 0; k <= h; k++) {
+            int a = k == h ? 0 : k;
+            int b = k == 0 ? 0 : h - k;
+            double zr = re[a];
+            double zi = im[a];
+            double cr = re[b];
+            double ci = -im[b];
+            double er = 0.5 * (zr + cr);
+            double ei = 0.5 * (zi + ci);
+            double or = 0.5 * (zi - ci); // (Z - conj Z') / 2i
+            double oi = -0.5 * (zr - cr);
+            double wr = split[2 * k];
+            double wi = split[2 * k + 1];
+            spectrum[spectrumOffset + 2 * k] = er + or * wr - oi * wi;
+            spectrum[spectrumOffset + 2 * k + 1] = ei + or * wi + oi * wr;
+        }
+    }
+
+    /**
+     * Transforms {@code count} consecutive signals laid out row-major, as produced by
+     * {@link SpectralSignatures#matrix(SpectralPrimeTable, int)} with a resolution equal to
+     * {@link #length()}, into consecutive half spectra.
+     *
+     * @param signals   row-major signals
+     * @param count     number of signals
+     * @param spectra   destination of {@code count * spectrumLength()} doubles
+     */
+    public void forwardBatch(double[] signals, int count, double[] spectra) {
+        forwardBatch(signals, 0, count, spectra, 0);
+    }
+
+    /**
+     * Batched form of {@link #forward(double[], int, double[], int)} over row-major signals.
+     *
+     * @param signals        row-major signals
+     * @param signalOffset   index of the first sample of the first signal
+     * @param count          number of signals
+     * @param spectra        destination array
+     * @param spectrumOffset index of the first spectrum
+     */
+    public void forwardBatch(double[] signals, int signalOffset, int count, double[] spectra, int spectrumOffset) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Signal count must be non-negative.");
+        }
+        if (signalOffset + (long) count * n > signals.length
+                || spectrumOffset + (long) count * spectrumLength() > spectra.length) {
+            throw new IllegalArgumentException("Batch of " + count + " signals exceeds the supplied arrays.");
+        }
+        int width = spectrumLength();
+        for (int s = 0; s < count; s++) {
+            forward(signals, signalOffset + s * n, spectra, spectrumOffset + s * width);
+        }
+    }
+
+    /**
+     * Reconstructs a signal from its interleaved half spectrum; the inverse of
+     * {@link #forward(double[], double[])}, including the 1/n normalization.
+     *
+     * @param spectrum {@link #spectrumLength()} doubles
+     * @param signal   destination of {@link #length()} samples
+     */
+    public void inverse(double[] spectrum, double[] signal) {
+        if (split == null) {
+            for (int k = 0; k <= n / 2; k++) {
+                re[k] = spectrum[2 * k];
+                im[k] = spectrum[2 * k + 1];
+            }
+            for (int k = n / 2 + 1; k < n; k++) {
+                re[k] = spectrum[2 * (n - k)];
+                im[k] = -spectrum[2 * (n - k) + 1];
+            }
+            complex.inverse(re, im);
+            for (int j = 0; j < n; j++) {
+                signal[j] = re[j] / n;
+            }
+            return;
+        }
+
+        int h = n / 2;
+        // Z[k] = E[k] + i O[k], with E = (X[k] + conj X[h-k]) / 2 and O = W^-k (X[k] - conj X[h-k]) / 2
+        for (int k = 0; k < h; k++) {
+            double xr = spectrum[2 * k];
+            double xi = spectrum[2 * k + 1];
+            double cr = spectrum[2 * (h - k)];
+            double ci = -spectrum[2 * (h - k) + 1];
+            double er = 0.5 * (xr + cr);
+            double ei = 0.5 * (xi + ci);
+            double dr = 0.5 * (xr - cr);
+            double di = 0.5 * (xi - ci);
+            double wr = split[2 * k];
+            double wi = -split[2 * k + 1];
+            double or = dr * wr - di * wi;
+            double oi = dr * wi + di * wr;
+            re[k] = er - oi;
+            im[k] = ei + or;
+        }
+        complex.inverse(re, im);
+        for (int j = 0; j < h; j++) {
+            signal[2 * j] = re[j] / h;
+            signal[2 * j + 1] = im[j] / h;
+        }
+    }
+
+    /**
+     * Writes the squared magnitude of each bin of an interleaved half spectrum.
+     *
+     * @param spectrum {@link #spectrumLength()} doubles
+     * @param power    destination of n/2 + 1 values
+     */
+    public void powerSpectrum(double[] spectrum, double[] power) {
+        for (int k = 0; k <= n / 2; k++) {
+            double a = spectrum[2 * k];
+            double b = spectrum[2 * k + 1];
+            power[k] = a * a + b * b;
+        }
+    }
+}
@@ -12,23 +12,31 @@ import util.Logger;
 /**
  * Represents the spectral signature of a prime number under the Prime Harmonics Calculus.
  * Encodes both temporal and frequency-domain interpretations of primes as spectral objects.
+ *
+ * <p>Instances are immutable and their identity is derived from the prime itself, so
+ * {@link #of(BigInteger)} can hand out one shared, canonical instance per prime.
  */
 public final class SpectralPrime {
 
     private final BigInteger primeValue;
     private final double frequencyComponent;
     private final double harmonicAmplitude;
-    private final UUID id;
+    private volatile UUID id;
 
     /**
      * Constructs a SpectralPrime from a given BigInteger prime number.
      * Applies logarithmic and harmonic transforms to define spectral properties.
+     * Prefer {@link #of(BigInteger)}, which reuses the canonical instance.
      *
      * @param prime BigInteger value that must be prime.
      * @throws IllegalArgumentException if the value is not prime or null.
      */
     public SpectralPrime(BigInteger prime) {
-        if (prime == null || !prime.isProbablePrime(100)) {
+        this(prime, false);
+    }
+
+    private SpectralPrime(BigInteger prime, boolean verified) {
+        if (!verified && (prime == null || !Primality.isPrime(prime))) {
             Logger.error("Attempted to create SpectralPrime with non-prime value: " + prime);
             throw new IllegalArgumentException("Input must be a valid prime number.");
         }
@@ -36,17 +44,65 @@ public final class SpectralPrime {
         this.primeValue = prime;
         this.frequencyComponent = computeFrequency(prime);
         this.harmonicAmplitude = computeAmplitude(prime);
-        this.id = UUID.randomUUID();
+    }
+
+    /**
+     * Returns the canonical SpectralPrime for a prime, validating it only when no
+     * instance is cached yet.
+     *
+     * @param prime BigInteger value that must be prime.
+     * @return shared SpectralPrime instance
+     * @throws IllegalArgumentException if the value is not prime or null.
+     */
+    public static SpectralPrime of(BigInteger prime) {
+        if (prime == null) {
+            return new SpectralPrime(null);
+        }
+        return SpectralPrimeCache.intern(prime, SpectralPrime::new);
+    }
+
+    /**
+     * Returns the canonical SpectralPrime for a prime given as a long.
+     *
+     * @param prime value that must be prime.
+     * @return shared SpectralPrime instance
+     * @throws IllegalArgumentException if the value is not prime.
+     */
+    public static SpectralPrime of(long prime) {
+        return SpectralPrimeCache.intern(prime, SpectralPrime::new);
+    }
+
+    /**
+     * Returns the canonical SpectralPrime for a value the caller has already proven prime
+     * (sieve output, or a PrimeOperator search result), skipping re-validation.
+     *
+     * @param prime BigInteger value known to be prime
+     * @return SpectralPrime
+     */
+    static SpectralPrime trusted(BigInteger prime) {
+        return SpectralPrimeCache.intern(prime, p -> new SpectralPrime(p, true));
+    }
+
+    static SpectralPrime trusted(long prime) {
+        return SpectralPrimeCache.intern(prime, p -> new SpectralPrime(p, true));
     }
 
     private double computeFrequency(BigInteger p) {
-        // Logarithmic frequency scaling
-        return Math.log(p.doubleValue()) / Math.log(2);
+        return frequencyOf(p.doubleValue());
     }
 
     private double computeAmplitude(BigInteger p) {
+        return amplitudeOf(p.doubleValue());
+    }
+
+    static double frequencyOf(double p) {
+        // Logarithmic frequency scaling
+        return Math.log(p) / Math.log(2);
+    }
+
+    static double amplitudeOf(double p) {
         // Prime-based harmonic strength (tunable kernel)
-        return 1.0 / Math.sqrt(p.doubleValue());
+        return 1.0 / Math.sqrt(p);
     }
 
     public BigInteger getPrimeValue() {
@@ -61,8 +117,19 @@ public final class SpectralPrime {
         return harmonicAmplitude;
     }
 
+    /**
+     * Returns a name-based (type 3) UUID derived from the prime value, so equal primes
+     * always share the same identity without touching SecureRandom.
+     *
+     * @return deterministic identifier
+     */
     public UUID getId() {
-        return id;
+        UUID derived = id;
+        if (derived == null) {
+            derived = UUID.nameUUIDFromBytes(primeValue.toByteArray());
+            id = derived;
+        }
+        return derived;
     }
 
     /**
@@ -111,7 +178,7 @@ public final class SpectralPrime {
                 "primeValue=" + primeValue +
                 ", frequencyComponent=" + frequencyComponent +
                 ", harmonicAmplitude=" + harmonicAmplitude +
-                ", id=" + id +
+                ", id=" + getId() +
                 '}';
     }
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package core;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.math.BigInteger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Canonical instance cache behind {@link SpectralPrime#of(BigInteger)}.
+ * Primes below {@value #DENSE_LIMIT} live in a dense, strongly held array. Larger primes
+ * are held through soft references and released under memory pressure: those that fit in a
+ * {@code long} in an open-addressed table keyed by the primitive value, the rest in a map
+ * keyed by BigInteger. A hit on either {@code long} path reads without locking and does
+ * not allocate; the BigInteger for a new instance is only built on a miss.
+ */
+final class SpectralPrimeCache {
+
+    static final int DENSE_LIMIT = 1 << 16;
+
+    private static final AtomicReferenceArray<SpectralPrime> DENSE = new AtomicReferenceArray<>(DENSE_LIMIT);
+    private static final int LONG_INITIAL_CAPACITY = 1 << 10;
+    private static final Object LONG_LOCK = new Object();
+    private static volatile AtomicReferenceArray<LongEntry> longEntries = new AtomicReferenceArray<>(LONG_INITIAL_CAPACITY);
+    private static int longSlotsUsed; // guarded by LONG_LOCK, counts cleared entries too
+    private static final ConcurrentHashMap<BigInteger, Entry<BigInteger>> BIG_ENTRIES = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<SpectralPrime> COLLECTED = new ReferenceQueue<>();
+
+    private SpectralPrimeCache() {
+        throw new UnsupportedOperationException("SpectralPrimeCache is a static utility class.");
+    }
+
+    /**
+     * Returns the canonical instance for {@code prime}, creating it with {@code factory} on a miss.
+     */
+    static SpectralPrime intern(long prime, Function<BigInteger, SpectralPrime> factory) {
+        if (prime < 0) {
+            return factory.apply(BigInteger.valueOf(prime)); // never prime; let the factory reject it
+        }
+        if (prime < DENSE_LIMIT) {
+            int index = (int) prime;
+            SpectralPrime cached = DENSE.get(index);
+            if (cached != null) {
+                return cached;
+            }
+            SpectralPrime created = factory.apply(BigInteger.valueOf(prime));
+            return DENSE.compareAndSet(index, null, created) ? created : DENSE.get(index);
+        }
+        return lookupLong(prime, null, factory);
+    }
+
+    static SpectralPrime intern(BigInteger prime, Function<BigInteger, SpectralPrime> factory) {
+        if (prime.signum() >= 0 && prime.bitLength() < Long.SIZE) {
+            long value = prime.longValue();
+            if (value < DENSE_LIMIT) {
+                return intern(value, factory);
+            }
+            return lookupLong(value, prime, factory);
+        }
+        return lookup(BIG_ENTRIES, prime, prime, factory);
+    }
+
+    /**
+     * Looks a prime up in the open-addressed table. Readers probe a volatile snapshot without
+     * locking; inserts and resizes are serialized on {@code LONG_LOCK}. Cleared entries keep
+     * their slot, so probe chains stay intact, and are dropped when the table is rebuilt.
+     *
+     * @param prime the prime, at least {@value #DENSE_LIMIT}
+     * @param big   the same prime as a BigInteger, or {@code null} to build it on a miss
+     */
+    private static SpectralPrime lookupLong(long prime, BigInteger big, Function<BigInteger, SpectralPrime> factory) {
+        AtomicReferenceArray<LongEntry> table = longEntries;
+        LongEntry entry = table.get(slot(table, prime));
+        SpectralPrime cached = entry == null ? null : entry.get();
+        if (cached != null) {
+            return cached;
+        }
+        SpectralPrime created = factory.apply(big != null ? big : BigInteger.valueOf(prime));
+        synchronized (LONG_LOCK) {
+            table = longEntries;
+            int index = slot(table, prime);
+            LongEntry existing = table.get(index);
+            if (existing != null) {
+                SpectralPrime winner = existing.get();
+                if (winner != null) {
+                    return winner;
+                }
+                table.set(index, new LongEntry(prime, created)); // reuse the cleared slot
+                return created;
+            }
+            if (2 * (longSlotsUsed + 1) > table.length()) {
+                table = rebuild(table);
+                index = slot(table, prime);
+            }
+            table.set(index, new LongEntry(prime, created));
+            longSlotsUsed++;
+            return created;
+        }
+    }
+
+    /** Index of the slot holding {@code prime}, or of the empty slot ending its probe chain. */
+    private static int slot(AtomicReferenceArray<LongEntry> table, long prime) {
+        int mask = table.length() - 1;
+        int index = (int) ((prime * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        while (true) {
+            LongEntry entry = table.get(index);
+            if (entry == null || entry.key == prime) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /** Copies the live entries into a table with room to grow; called under {@code LONG_LOCK}. */
+    private static AtomicReferenceArray<LongEntry> rebuild(AtomicReferenceArray<LongEntry> old) {
+        int live = 0;
+        for (int i = 0; i < old.length(); i++) {
+            LongEntry entry = old.get(i);
+            if (entry != null && entry.get() != null) {
+                live++;
+            }
+        }
+        int capacity = LONG_INITIAL_CAPACITY;
+        while (capacity < 4 * (live + 1)) {
+            capacity <<= 1;
+        }
+        AtomicReferenceArray<LongEntry> table = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < old.length(); i++) {
+            LongEntry entry = old.get(i);
+            if (entry != null && entry.get() != null) {
+                table.set(slot(table, entry.key), entry);
+            }
+        }
+        longSlotsUsed = live;
+        longEntries = table;
+        return table;
+    }
+
+    private static <K> SpectralPrime lookup(ConcurrentHashMap<K, Entry<K>> entries, K key, BigInteger prime,
+                                            Function<BigInteger, SpectralPrime> factory) {
+        Entry<K> entry = entries.get(key);
+        SpectralPrime cached = entry == null ? null : entry.get();
+        if (cached != null) {
+            return cached;
+        }
+        expungeCollected();
+        SpectralPrime created = factory.apply(prime);
+        while (true) {
+            Entry<K> fresh = new Entry<>(key, created, entries);
+            Entry<K> existing = entries.putIfAbsent(key, fresh);
+            if (existing == null) {
+                return created;
+            }
+            SpectralPrime winner = existing.get();
+            if (winner != null) {
+                return winner;
+            }
+            if (entries.replace(key, existing, fresh)) {
+                return created;
+            }
+        }
+    }
+
+    private static void expungeCollected() {
+        Object ref;
+        while ((ref = COLLECTED.poll()) != null) {
+            ((Entry<?>) ref).remove();
+        }
+    }
+
+    /**
+     * Soft reference held in the open-addressed table, tagged with its primitive key.
+     */
+    private static final class LongEntry extends SoftReference<SpectralPrime> {
+        private final long key;
+
+        LongEntry(long key, SpectralPrime value) {
+            super(value);
+            this.key = key;
+        }
+    }
+
+    /**
+     * Soft reference that remembers its key and map so it can be removed once cleared.
+     */
+    private static final class Entry<K> extends SoftReference<SpectralPrime> {
+        private final K key;
+        private final ConcurrentHashMap<K, Entry<K>> owner;
+
+        Entry(K key, SpectralPrime value, ConcurrentHashMap<K, Entry<K>> owner) {
+            super(value, COLLECTED);
+            this.key = key;
+            this.owner = owner;
+        }
+
+        void remove() {
+            owner.remove(key, this);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package core;
+
+import java.math.BigInteger;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Columnar (struct-of-arrays) store of the SpectralPrimes of a field.
+ * Primes are held in a sorted {@code long[]} with parallel {@code double[]} columns for
+ * the frequency and amplitude components, costing 24 bytes per prime instead of a
+ * BigInteger, UUID and hash entry per element. Index access is O(1) and membership is a
+ * binary search. All views are read-only and share the underlying arrays.
+ */
+public final class SpectralPrimeTable {
+
+    private static final SpectralPrimeTable EMPTY = new SpectralPrimeTable(new long[0]);
+
+    private final long[] primes;
+    private final double[] frequencies;
+    private final double[] amplitudes;
+
+    private SpectralPrimeTable(long[] primes) {
+        this.primes = primes;
+        this.frequencies = new double[primes.length];
+        this.amplitudes = new double[primes.length];
+        for (int i = 0; i < primes.length; i++) {
+            double p = primes[i];
+            frequencies[i] = SpectralPrime.frequencyOf(p);
+            amplitudes[i] = SpectralPrime.amplitudeOf(p);
+        }
+    }
+
+    /**
+     * Builds a table over an ascending array of primes. The array is adopted, not copied,
+     * and must not be modified afterwards.
+     *
+     * @param sortedPrimes strictly ascending primes
+     * @return the table
+     */
+    public static SpectralPrimeTable of(long[] sortedPrimes) {
+        if (sortedPrimes.length == 0) {
+            return EMPTY;
+        }
+        for (int i = 1; i < sortedPrimes.length; i++) {
+            if (sortedPrimes[i] <= sortedPrimes[i - 1]) {
+                throw new IllegalArgumentException("Primes must be strictly ascending.");
+            }
+        }
+        if (sortedPrimes[0] < 2) {
+            throw new IllegalArgumentException("Primes must be at least 2.");
+        }
+        return new SpectralPrimeTable(sortedPrimes);
+    }
+
+    public int size() {
+        return primes.length;
+    }
+
+    public long primeAt(int index) {
+        return primes[index];
+    }
+
+    public double frequencyAt(int index) {
+        return frequencies[index];
+    }
+
+    public double amplitudeAt(int index) {
+        return amplitudes[index];
+    }
+
+    /**
+     * Returns the canonical SpectralPrime at {@code index}.
+     *
+     * @param index row index
+     * @return SpectralPrime for that row
+     */
+    public SpectralPrime get(int index) {
+        return SpectralPrime.trusted(primes[index]);
+    }
+
+    /**
+     * Locates a prime by binary search.
+     *
+     * @param prime value to locate
+     * @return row index, or -1 if absent
+     */
+    public int indexOf(long prime) {
+        int index = Arrays.binarySearch(primes, prime);
+        return index >= 0 ? index : -1;
+    }
+
+    public boolean contains(long prime) {
+        return Arrays.binarySearch(primes, prime) >= 0;
+    }
+
+    public boolean contains(BigInteger prime) {
+        return prime != null && prime.bitLength() < Long.SIZE && contains(prime.longValue());
+    }
+
+    /** @return read-only view over the prime column */
+    public LongBuffer primes() {
+        return LongBuffer.wrap(primes).asReadOnlyBuffer();
+    }
+
+    /** @return read-only view over the frequency column */
+    public DoubleBuffer frequencies() {
+        return DoubleBuffer.wrap(frequencies).asReadOnlyBuffer();
+    }
+
+    /** @return read-only view over the amplitude column */
+    public DoubleBuffer amplitudes() {
+        return DoubleBuffer.wrap(amplitudes).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns an unmodifiable list view; elements are materialized on access.
+     *
+     * @return List of SpectralPrimes in ascending order
+     */
+    public List<SpectralPrime> asList() {
+        return new ListView();
+    }
+
+    /**
+     * Returns an unmodifiable set view with binary-search membership.
+     *
+     * @return Set of SpectralPrimes in ascending order
+     */
+    public Set<SpectralPrime> asSet() {
+        return new SetView();
+    }
+
+    private final class ListView extends AbstractList<SpectralPrime> implements RandomAccess {
+        @Override
+        public SpectralPrime get(int index) {
+            return SpectralPrimeTable.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return primes.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof SpectralPrime && SpectralPrimeTable.this.contains(((SpectralPrime) o).getPrimeValue());
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            if (!(o instanceof SpectralPrime)) return -1;
+            BigInteger value = ((SpectralPrime) o).getPrimeValue();
+            return value.bitLength() < Long.SIZE ? SpectralPrimeTable.this.indexOf(value.longValue()) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+    }
+
+    private final class SetView extends AbstractSet<SpectralPrime> {
+        @Override
+        public Iterator<SpectralPrime> iterator() {
+            return asList().iterator();
+        }
+
+        @Override
+        public int size() {
+            return primes.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof SpectralPrime && SpectralPrimeTable.this.contains(((SpectralPrime) o).getPrimeValue());
+        }
+    }
+}
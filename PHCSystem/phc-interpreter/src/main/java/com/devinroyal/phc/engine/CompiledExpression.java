@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2025 Devin B. Royal.
+ * All Rights Reserved.
+ */
+
+package engine;
+
+import util.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An ExpressionNode tree lowered to a flat postfix program for repeated evaluation.
+ *
+ * <p>Each instruction is one {@code int}: the opcode sits in the low byte and the operand
+ * in the upper bits. For {@code CONST} the operand is an index into the {@code double[]}
+ * constant pool. For operators it is the index of the originating node, which is used only
+ * to report errors. The interpreter loop runs over primitive arrays with an operand stack
+ * sized at compile time, so an evaluation neither allocates nor unboxes.
+ *
+ * <p>Operands are evaluated left before right and every operator is checked where the tree
+ * walker checks it. Results and exceptions, including the "Division by zero." failure and
+ * its log entry, are therefore identical to {@link ExpressionNode#evaluate()}.
+ */
+public final class CompiledExpression {
+
+    static final int CONST = 0;
+    static final int ADD = 1;
+    static final int SUB = 2;
+    static final int MUL = 3;
+    static final int DIV = 4;
+    static final int UNSUPPORTED = 5;
+
+    private static final int OPCODE_BITS = 8;
+    private static final int OPCODE_MASK = (1 << OPCODE_BITS) - 1;
+    private static final int MAX_OPERAND = (1 << (Integer.SIZE - 1 - OPCODE_BITS)) - 1;
+
+    private final int[] code;
+    private final double[] constants;
+    private final ExpressionNode[] sites;
+    private final int maxStack;
+    private final double[] stack;
+
+    private CompiledExpression(int[] code, double[] constants, ExpressionNode[] sites, int maxStack) {
+        this.code = code;
+        this.constants = constants;
+        this.sites = sites;
+        this.maxStack = maxStack;
+        this.stack = new double[maxStack];
+    }
+
+    /**
+     * Compiles a tree without recursion, so arbitrarily deep trees from the parser are safe.
+     *
+     * @param root expression tree
+     * @return compiled program
+     * @throws IllegalArgumentException if {@code root} is null or too large to encode
+     */
+    public static CompiledExpression compile(ExpressionNode root) {
+        if (root == null) {
+            throw new IllegalArgumentException("Cannot compile a null expression.");
+        }
+        List<Integer> code = new ArrayList<>();
+        List<Double> constants = new ArrayList<>();
+        Map<Long, Integer> constantIndex = new HashMap<>();
+        List<ExpressionNode> sites = new ArrayList<>();
+        int depth = 0;
+        int maxDepth = 0;
+
+        // Post-order traversal: a node is emitted once both of its children have been.
+        Deque<ExpressionNode> pending = new ArrayDeque<>();
+        Deque<Boolean> expanded = new ArrayDeque<>();
+        pending.push(root);
+        expanded.push(Boolean.FALSE);
+        while (!pending.isEmpty()) {
+            ExpressionNode node = pending.pop();
+            boolean childrenDone = expanded.pop();
+            if (node.isLeaf()) {
+                double value = node.getValue();
+                Integer index = constantIndex.get(Double.doubleToRawLongBits(value));
+                if (index == null) {
+                    index = constants.size();
+                    constants.add(value);
+                    constantIndex.put(Double.doubleToRawLongBits(value), index);
+                }
+                code.add(encode(CONST, index));
+                maxDepth = Math.max(maxDepth, ++depth);
+            } else if (childrenDone) {
+                code.add(encode(opcodeOf(node.getOperator()), sites.size()));
+                sites.add(node);
+                depth--;
+            } else {
+                pending.push(node);
+                expanded.push(Boolean.TRUE);
+                pending.push(node.getRight());
+                expanded.push(Boolean.FALSE);
+                pending.push(node.getLeft());
+                expanded.push(Boolean.FALSE);
+            }
+        }
+
+        int[] program = new int[code.size()];
+        for (int i = 0; i < program.length; i++) {
+            program[i] = code.get(i);
+        }
+        double[] pool = new double[constants.size()];
+        for (int i = 0; i < pool.length; i++) {
+            pool[i] = constants.get(i);
+        }
+        return new CompiledExpression(program, pool, sites.toArray(new ExpressionNode[0]), maxDepth);
+    }
+
+    private static int encode(int opcode, int operand) {
+        if (operand > MAX_OPERAND) {
+            throw new IllegalArgumentException("Expression too large to compile.");
+        }
+        return opcode | (operand << OPCODE_BITS);
+    }
+
+    private static int opcodeOf(char operator) {
+        switch (operator) {
+            case '+': return ADD;
+            case '-': return SUB;
+            case '*': return MUL;
+            case '/': return DIV;
+            default: return UNSUPPORTED;
+        }
+    }
+
+    /**
+     * Runs the program on this instance's operand stack. Not thread-safe; concurrent
+     * callers should use {@link #evaluate(double[])} with a stack from {@link #newStack()}.
+     *
+     * @return value of the expression
+     * @throws ArithmeticException           on division by zero
+     * @throws UnsupportedOperationException on an operator the tree walker rejects
+     */
+    public double evaluate() {
+        return evaluate(stack);
+    }
+
+    /**
+     * Runs the program on a caller-supplied operand stack.
+     *
+     * @param stack array of at least {@link #getMaxStack()} elements
+     * @return value of the expression
+     */
+    public double evaluate(double[] stack) {
+        final int[] code = this.code;
+        final double[] constants = this.constants;
+        int sp = 0;
+        for (int pc = 0; pc < code.length; pc++) {
+            int instruction = code[pc];
+            switch (instruction & OPCODE_MASK) {
+                case CONST:
+                    stack[sp++] = constants[instruction >>> OPCODE_BITS];
+                    break;
+                case ADD:
+                    sp--;
+                    stack[sp - 1] += stack[sp];
+                    break;
+                case SUB:
+                    sp--;
+                    stack[sp - 1] -= stack[sp];
+                    break;
+                case MUL:
+                    sp--;
+                    stack[sp - 1] *= stack[sp];
+                    break;
+                case DIV:
+                    sp--;
+                    if (stack[sp] == 0) {
+                        throw fail(instruction, new ArithmeticException("Division by zero."));
+                    }
+                    stack[sp - 1] /= stack[sp];
+                    break;
+                default:
+                    ExpressionNode site = sites[instruction >>> OPCODE_BITS];
+                    throw fail(instruction, new UnsupportedOperationException("Unsupported operator: " + site.getOperator()));
+            }
+        }
+        return stack[0];
+    }
+
+    private RuntimeException fail(int instruction, RuntimeException e) {
+        Logger.error("Evaluation error at node [" + sites[instruction >>> OPCODE_BITS] + "]: " + e.getMessage(), e);
+        return e;
+    }
+
+    /**
+     * Allocates an operand stack large enough for this program.
+     *
+     * @return new stack
+     */
+    public double[] newStack() {
+        return new double[maxStack];
+    }
+
+    public int getMaxStack() {
+        return maxStack;
+    }
+
+    public int getInstructionCount() {
+        return code.length;
+    }
+
+    public int getConstantCount() {
+        return constants.length;
+    }
+
+    /**
+     * Returns a readable listing of the program, one instruction per line.
+     *
+     * @return disassembly
+     */
+    public String disassemble() {
+        StringBuilder out = new StringBuilder();
+        for (int pc = 0; pc < code.length; pc++) {
+            int opcode = code[pc] & OPCODE_MASK;
+            int operand = code[pc] >>> OPCODE_BITS;
+            out.append(pc).append(": ");
+            switch (opcode) {
+                case CONST: out.append("CONST ").append(constants[operand]); break;
+                case ADD: out.append("ADD"); break;
+                case SUB: out.append("SUB"); break;
+                case MUL: out.append("MUL"); break;
+                case DIV: out.append("DIV"); break;
+                default: out.append("UNSUPPORTED ").append(sites[operand].getOperator()); break;
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledExpression{instructions=" + code.length + ", constants=" + constants.length
+                + ", maxStack=" + maxStack + '}';
+    }
+}